@@ -0,0 +1,66 @@
+package net.id.aether.blocks.natural.tree;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3i;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Colors every position of one chunk section four times over, the way meshing asks for a tint per leaf vertex,
+ * once computing every color directly and once going through an {@link AuralColorField}.
+ * <br>
+ * Needs no client, so it runs headless with {@code ./gradlew jmh -PjmhIncludes=AuralColorBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuralColorBenchmark {
+    private static final int VERTICES_PER_BLOCK = 4;
+
+    // Boreal wisteria
+    private final Vec3i[] gradient = {
+            new Vec3i(0x42, 0xcd, 0xff),
+            new Vec3i(0x3d, 0xff, 0xcb),
+            new Vec3i(0xac, 0x4d, 0xff),
+            new Vec3i(0xff, 0x5c, 0xd6)
+    };
+    private final BlockPos.Mutable pos = new BlockPos.Mutable();
+    private AuralColorField field;
+    private long time;
+
+    @Param({"false", "true"})
+    public boolean fastGraphics;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        // A fresh field and a new time bucket, so every invocation starts from a cold section like a real rebuild
+        this.field = new AuralColorField(this.gradient);
+        this.time += AuralColorField.TIME_BUCKET;
+    }
+
+    @Benchmark
+    public void direct(Blackhole blackhole) {
+        float timeOffset = this.time * 0.003F;
+        for (int i = 0; i < 16 * 16 * 16; i++) {
+            this.pos.set(i & 15, i >> 8, i >> 4 & 15);
+            for (int vertex = 0; vertex < VERTICES_PER_BLOCK; vertex++) {
+                blackhole.consume(AuralColorField.computeColor(this.pos, this.gradient, timeOffset, this.fastGraphics));
+            }
+        }
+    }
+
+    @Benchmark
+    public void cached(Blackhole blackhole) {
+        for (int i = 0; i < 16 * 16 * 16; i++) {
+            this.pos.set(i & 15, i >> 8, i >> 4 & 15);
+            for (int vertex = 0; vertex < VERTICES_PER_BLOCK; vertex++) {
+                blackhole.consume(this.field.getColor(this.pos, this.time, this.fastGraphics));
+            }
+        }
+    }
+}
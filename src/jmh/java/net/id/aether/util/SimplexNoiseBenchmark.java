@@ -0,0 +1,46 @@
+package net.id.aether.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples one chunk section worth of noise, one point at a time and with the batch API.
+ * <br>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=SimplexNoiseBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimplexNoiseBenchmark {
+    private static final float STEP = 1 / 31F;
+
+    private final float[] out = new float[16 * 16 * 16];
+    private float origin;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        this.origin += 16 * STEP;
+    }
+
+    @Benchmark
+    public void scalar(Blackhole blackhole) {
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    blackhole.consume(SimplexNoise.noise(this.origin + x * STEP, this.origin + y * STEP, this.origin + z * STEP));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public float[] batch() {
+        SimplexNoise.noise(this.out, 0, this.origin, this.origin, this.origin, STEP, STEP, STEP, 16, 16, 16);
+        return this.out;
+    }
+}
@@ -0,0 +1,47 @@
+package net.id.aether.world;
+
+import net.id.aether.blocks.AetherBlocks;
+import net.minecraft.SharedConstants;
+import net.minecraft.Bootstrap;
+import net.minecraft.tag.RequiredTagListRegistry;
+import net.minecraft.tag.ServerTagManagerHolder;
+import net.minecraft.tag.TagManager;
+import net.minecraft.util.registry.BuiltinRegistries;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+import net.minecraft.world.gen.chunk.DebugChunkGenerator;
+
+/**
+ * Brings up just enough of the game for worldgen benchmarks to run headless:
+ * vanilla's registries, the Aether's blocks, and an empty set of tags.
+ * <br>
+ * Tags normally come from data packs, which aren't loaded here, so every tag is bound but empty.
+ * Anything that checks a tag (soil, base aether stone, leaves) sees no match.
+ */
+public final class BenchmarkBootstrap {
+    private static boolean initialized;
+
+    private BenchmarkBootstrap() {
+    }
+
+    public static synchronized void init() {
+        if (initialized) {
+            return;
+        }
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+        TagManager tags = RequiredTagListRegistry.createBuiltinTagManager();
+        ServerTagManagerHolder.setTagManager(tags);
+        RequiredTagListRegistry.updateTagManager(tags);
+        // Only the block instances are needed, so they are loaded without going through the registry queue
+        AetherBlocks.HOLYSTONE.getDefaultState();
+        initialized = true;
+    }
+
+    /**
+     * A generator for the places that want one, like {@link net.minecraft.world.gen.feature.util.FeatureContext}.
+     * It never generates anything itself.
+     */
+    public static ChunkGenerator chunkGenerator() {
+        return new DebugChunkGenerator(BuiltinRegistries.BIOME);
+    }
+}
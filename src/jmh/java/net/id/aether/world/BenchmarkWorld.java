@@ -0,0 +1,370 @@
+package net.id.aether.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.id.aether.blocks.AetherBlocks;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.particle.ParticleEffect;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.sound.SoundCategory;
+import net.minecraft.sound.SoundEvent;
+import net.minecraft.structure.StructureStart;
+import net.minecraft.util.TypeFilter;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.registry.BuiltinRegistries;
+import net.minecraft.util.registry.DynamicRegistryManager;
+import net.minecraft.util.registry.Registry;
+import net.minecraft.world.BlockView;
+import net.minecraft.world.Difficulty;
+import net.minecraft.world.DummyClientTickScheduler;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.LightType;
+import net.minecraft.world.LocalDifficulty;
+import net.minecraft.world.StructureWorldAccess;
+import net.minecraft.world.TickScheduler;
+import net.minecraft.world.WorldProperties;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.BiomeKeys;
+import net.minecraft.world.biome.source.BiomeAccess;
+import net.minecraft.world.biome.source.VoronoiBiomeAccessType;
+import net.minecraft.world.border.WorldBorder;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkManager;
+import net.minecraft.world.chunk.ChunkProvider;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.UpgradeData;
+import net.minecraft.world.chunk.light.LightingProvider;
+import net.minecraft.world.dimension.DimensionType;
+import net.minecraft.world.event.GameEvent;
+import net.minecraft.world.gen.feature.StructureFeature;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * An in-memory {@link StructureWorldAccess} over a square of {@link ProtoChunk ProtoChunks},
+ * just enough of a world for the Aether's features to generate into without a server.
+ * <br>
+ * Entities, sounds and scheduled ticks go nowhere, and there is no lighting engine.
+ * Every biome is plains and every block sees full sky light.
+ * Only the server and its chunk manager are unsupported, since there is neither.
+ */
+public class BenchmarkWorld implements StructureWorldAccess {
+    public static final int BOTTOM_Y = 0;
+    public static final int HEIGHT = 384;
+
+    private final Long2ObjectOpenHashMap<ProtoChunk> chunks = new Long2ObjectOpenHashMap<>();
+    private final long seed;
+    private final Random random;
+    private final Biome biome = BuiltinRegistries.BIOME.get(BiomeKeys.PLAINS);
+    private final DynamicRegistryManager registryManager = DynamicRegistryManager.create();
+    private final WorldProperties properties = new ClientWorld.Properties(Difficulty.NORMAL, false, false);
+    private final BiomeAccess biomeAccess;
+    private final LightingProvider lightingProvider;
+
+    /**
+     * @param radius How many chunks around chunk (0, 0) exist, in each direction
+     */
+    public BenchmarkWorld(long seed, int radius) {
+        this.seed = seed;
+        this.random = new Random(seed);
+        this.biomeAccess = new BiomeAccess(this, BiomeAccess.hashSeed(seed), VoronoiBiomeAccessType.INSTANCE);
+        this.lightingProvider = new LightingProvider(new ChunkProvider() {
+            @Nullable
+            @Override
+            public BlockView getChunk(int chunkX, int chunkZ) {
+                return BenchmarkWorld.this.getChunkAsView(chunkX, chunkZ);
+            }
+
+            @Override
+            public BlockView getWorld() {
+                return BenchmarkWorld.this;
+            }
+        }, false, false);
+        for (int x = -radius; x <= radius; x++) {
+            for (int z = -radius; z <= radius; z++) {
+                this.chunks.put(ChunkPos.toLong(x, z), new ProtoChunk(new ChunkPos(x, z), UpgradeData.NO_UPGRADE_DATA, this));
+            }
+        }
+    }
+
+    /**
+     * A floating island around the origin, always the same for the same seed:
+     * holystone under a few blocks of aether dirt and a grass top between y 64 and about 96,
+     * and a one block thick grass shelf at y 112 hanging over part of it.
+     */
+    public static BenchmarkWorld island(long seed, int radius) {
+        BenchmarkWorld world = new BenchmarkWorld(seed, radius);
+        Random random = new Random(seed);
+        BlockState holystone = AetherBlocks.HOLYSTONE.getDefaultState();
+        BlockState dirt = AetherBlocks.AETHER_DIRT.getDefaultState();
+        BlockState grass = AetherBlocks.AETHER_GRASS_BLOCK.getDefaultState();
+        double phaseX = random.nextDouble() * Math.PI * 2;
+        double phaseZ = random.nextDouble() * Math.PI * 2;
+        int extent = radius * 16;
+
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int x = -extent; x < extent; x++) {
+            for (int z = -extent; z < extent; z++) {
+                double distance = Math.sqrt(x * x + z * z) / extent;
+                if (distance >= 1) {
+                    continue;
+                }
+                int top = 80 + (int) (12 * (1 - distance) + 4 * Math.sin(x / 7.0 + phaseX) * Math.cos(z / 9.0 + phaseZ));
+                int bottom = 64 + (int) (10 * distance);
+                Chunk chunk = world.getChunk(x >> 4, z >> 4);
+                for (int y = bottom; y <= top; y++) {
+                    chunk.setBlockState(pos.set(x, y, z), y == top ? grass : y > top - 3 ? dirt : holystone, false);
+                }
+                if (distance < 0.6 && Math.sin(x / 5.0 + phaseZ) > -0.5) {
+                    chunk.setBlockState(pos.set(x, 112, z), grass, false);
+                }
+            }
+        }
+        return world;
+    }
+
+    @Override
+    public long getSeed() {
+        return this.seed;
+    }
+
+    @Override
+    public Stream<? extends StructureStart<?>> getStructures(ChunkSectionPos pos, StructureFeature<?> feature) {
+        return Stream.empty();
+    }
+
+    @Override
+    public ServerWorld toServerWorld() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public TickScheduler<Block> getBlockTickScheduler() {
+        return DummyClientTickScheduler.get();
+    }
+
+    @Override
+    public TickScheduler<Fluid> getFluidTickScheduler() {
+        return DummyClientTickScheduler.get();
+    }
+
+    @Override
+    public WorldProperties getLevelProperties() {
+        return this.properties;
+    }
+
+    @Override
+    public LocalDifficulty getLocalDifficulty(BlockPos pos) {
+        return new LocalDifficulty(Difficulty.NORMAL, this.getLunarTime(), 0, this.getMoonSize());
+    }
+
+    @Nullable
+    @Override
+    public MinecraftServer getServer() {
+        return null;
+    }
+
+    @Override
+    public ChunkManager getChunkManager() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Random getRandom() {
+        return this.random;
+    }
+
+    @Override
+    public void playSound(@Nullable PlayerEntity player, BlockPos pos, SoundEvent sound, SoundCategory category, float volume, float pitch) {
+    }
+
+    @Override
+    public void addParticle(ParticleEffect parameters, double x, double y, double z, double velocityX, double velocityY, double velocityZ) {
+    }
+
+    @Override
+    public void syncWorldEvent(@Nullable PlayerEntity player, int eventId, BlockPos pos, int data) {
+    }
+
+    @Override
+    public void emitGameEvent(@Nullable Entity entity, GameEvent event, BlockPos pos) {
+    }
+
+    @Override
+    public DynamicRegistryManager getRegistryManager() {
+        return this.registryManager;
+    }
+
+    @Override
+    public List<Entity> getOtherEntities(@Nullable Entity except, Box box, Predicate<? super Entity> predicate) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public <T extends Entity> List<T> getEntitiesByType(TypeFilter<Entity, T> filter, Box box, Predicate<? super T> predicate) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<? extends PlayerEntity> getPlayers() {
+        return Collections.emptyList();
+    }
+
+    @Nullable
+    @Override
+    public Chunk getChunk(int chunkX, int chunkZ, ChunkStatus leastStatus, boolean create) {
+        Chunk chunk = this.chunks.get(ChunkPos.toLong(chunkX, chunkZ));
+        if (chunk == null && create) {
+            throw new IllegalStateException("Chunk " + chunkX + ", " + chunkZ + " is outside the benchmark world");
+        }
+        return chunk;
+    }
+
+    @Override
+    public boolean isChunkLoaded(int chunkX, int chunkZ) {
+        return this.chunks.containsKey(ChunkPos.toLong(chunkX, chunkZ));
+    }
+
+    @Override
+    public int getTopY(Heightmap.Type heightmap, int x, int z) {
+        Chunk chunk = this.getChunk(x >> 4, z >> 4, ChunkStatus.EMPTY, false);
+        return chunk == null ? BOTTOM_Y : chunk.sampleHeightmap(heightmap, x & 15, z & 15) + 1;
+    }
+
+    @Override
+    public int getAmbientDarkness() {
+        return 0;
+    }
+
+    @Override
+    public BiomeAccess getBiomeAccess() {
+        return this.biomeAccess;
+    }
+
+    @Override
+    public Biome getBiome(BlockPos pos) {
+        return this.biome;
+    }
+
+    @Override
+    public Biome getGeneratorStoredBiome(int biomeX, int biomeY, int biomeZ) {
+        return this.biome;
+    }
+
+    @Override
+    public boolean isClient() {
+        return false;
+    }
+
+    @Override
+    public int getSeaLevel() {
+        return BOTTOM_Y;
+    }
+
+    @Override
+    public DimensionType getDimension() {
+        return this.registryManager.get(Registry.DIMENSION_TYPE_KEY).get(DimensionType.OVERWORLD_REGISTRY_KEY);
+    }
+
+    @Override
+    public int getBottomY() {
+        return BOTTOM_Y;
+    }
+
+    @Override
+    public int getHeight() {
+        return HEIGHT;
+    }
+
+    @Override
+    public float getBrightness(Direction direction, boolean shaded) {
+        return 1;
+    }
+
+    @Override
+    public LightingProvider getLightingProvider() {
+        return this.lightingProvider;
+    }
+
+    @Override
+    public int getLightLevel(LightType type, BlockPos pos) {
+        return type == LightType.SKY ? 15 : 0;
+    }
+
+    @Override
+    public WorldBorder getWorldBorder() {
+        return new WorldBorder();
+    }
+
+    @Nullable
+    @Override
+    public Chunk getChunkAsView(int chunkX, int chunkZ) {
+        return this.getChunk(chunkX, chunkZ, ChunkStatus.EMPTY, false);
+    }
+
+    @Nullable
+    @Override
+    public BlockEntity getBlockEntity(BlockPos pos) {
+        return null;
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        if (this.isOutOfHeightLimit(pos)) {
+            return Blocks.VOID_AIR.getDefaultState();
+        }
+        Chunk chunk = this.getChunk(pos.getX() >> 4, pos.getZ() >> 4, ChunkStatus.EMPTY, false);
+        return chunk == null ? Blocks.VOID_AIR.getDefaultState() : chunk.getBlockState(pos);
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+        return this.getBlockState(pos).getFluidState();
+    }
+
+    @Override
+    public boolean testBlockState(BlockPos pos, Predicate<BlockState> state) {
+        return state.test(this.getBlockState(pos));
+    }
+
+    @Override
+    public boolean setBlockState(BlockPos pos, BlockState state, int flags, int maxUpdateDepth) {
+        if (this.isOutOfHeightLimit(pos)) {
+            return false;
+        }
+        Chunk chunk = this.getChunk(pos.getX() >> 4, pos.getZ() >> 4, ChunkStatus.EMPTY, false);
+        if (chunk == null) {
+            return false;
+        }
+        chunk.setBlockState(pos, state, false);
+        return true;
+    }
+
+    @Override
+    public boolean removeBlock(BlockPos pos, boolean move) {
+        return this.setBlockState(pos, this.getFluidState(pos).getBlockState(), 3);
+    }
+
+    @Override
+    public boolean breakBlock(BlockPos pos, boolean drop, @Nullable Entity breakingEntity, int maxUpdateDepth) {
+        return this.setBlockState(pos, Blocks.AIR.getDefaultState(), 3, maxUpdateDepth);
+    }
+}
@@ -0,0 +1,105 @@
+package net.id.aether.world.feature;
+
+import net.id.aether.blocks.AetherBlocks;
+import net.id.aether.world.BenchmarkBootstrap;
+import net.id.aether.world.BenchmarkWorld;
+import net.id.aether.world.feature.config.AercloudConfig;
+import net.id.aether.world.feature.config.DynamicConfiguration;
+import net.id.aether.world.feature.config.QuicksoilConfig;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+import net.minecraft.world.gen.feature.SingleStateFeatureConfig;
+import net.minecraft.world.gen.feature.util.FeatureContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Places one of each of the Aether's own features on the same small floating island.
+ * <br>
+ * The island and every feature's random are seeded with fixed seeds, so every invocation places the same blocks
+ * and runs before and after a change can be compared directly.
+ * The island is rebuilt before each invocation, so no feature ever sees what the previous one placed.
+ * <br>
+ * Tags aren't loaded headless (see {@link BenchmarkBootstrap}), so the boulder never finds soil or base stone
+ * to sit on and measures its search down the column, which is most of its cost anyway.
+ * <br>
+ * Run with {@code ./gradlew jmh -PjmhIncludes=FeatureBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeatureBenchmark {
+    private static final long SEED = 2_171_690_113L;
+    private static final int RADIUS = 2;
+
+    private QuicksoilFeature quicksoil;
+    private AercloudFeature aercloud;
+    private AetherLakeFeature lake;
+    private AetherBoulderFeature boulder;
+    private QuicksoilConfig quicksoilConfig;
+    private AercloudConfig aercloudConfig;
+    private DynamicConfiguration lakeConfig;
+    private SingleStateFeatureConfig boulderConfig;
+    private ChunkGenerator generator;
+    private long boulderSeed;
+    private BenchmarkWorld world;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        BenchmarkBootstrap.init();
+        this.quicksoil = new QuicksoilFeature();
+        this.aercloud = new AercloudFeature();
+        this.lake = new AetherLakeFeature();
+        this.boulder = new AetherBoulderFeature(SingleStateFeatureConfig.CODEC);
+        this.quicksoilConfig = new QuicksoilConfig(Optional.empty(), Optional.empty());
+        this.aercloudConfig = new AercloudConfig(AetherBlocks.GOLDEN_AERCLOUD.getDefaultState(), Optional.empty(), false, 14, 96);
+        this.lakeConfig = new DynamicConfiguration(Blocks.WATER.getDefaultState(), Optional.empty());
+        this.boulderConfig = new SingleStateFeatureConfig(AetherBlocks.MOSSY_HOLYSTONE.getDefaultState());
+        this.generator = BenchmarkBootstrap.chunkGenerator();
+
+        // Boulders give up on 49 out of 50 attempts straight away, so pick a seed that gets past that
+        long seed = SEED;
+        while (new Random(seed).nextFloat() >= 0.02F) {
+            seed++;
+        }
+        this.boulderSeed = seed;
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        this.world = BenchmarkWorld.island(SEED, RADIUS);
+    }
+
+    /**
+     * From below the island, so it climbs to the grass shelf hanging over it and fills the gap underneath.
+     */
+    @Benchmark
+    public boolean quicksoil() {
+        return this.quicksoil.generate(new FeatureContext<>(this.world, this.generator, new Random(SEED), new BlockPos(0, 64, 0), this.quicksoilConfig));
+    }
+
+    @Benchmark
+    public boolean aercloud() {
+        return this.aercloud.generate(new FeatureContext<>(this.world, this.generator, new Random(SEED), new BlockPos(0, 160, 0), this.aercloudConfig));
+    }
+
+    /**
+     * From high above the island's surface, clear of the shelf, so it falls to the ground before digging.
+     */
+    @Benchmark
+    public boolean lake() {
+        return this.lake.generate(new FeatureContext<>(this.world, this.generator, new Random(SEED), new BlockPos(24, 200, -8), this.lakeConfig));
+    }
+
+    @Benchmark
+    public boolean boulder() {
+        return this.boulder.generate(new FeatureContext<>(this.world, this.generator, new Random(this.boulderSeed), new BlockPos(-24, 0, 8), this.boulderConfig));
+    }
+}
@@ -0,0 +1,68 @@
+package net.id.aether.world.feature.tree.placers;
+
+import net.id.aether.world.BenchmarkBootstrap;
+import net.id.aether.world.BenchmarkWorld;
+import net.id.aether.world.feature.AetherConfiguredFeatures;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.gen.feature.TreeFeatureConfig;
+import net.minecraft.world.gen.foliage.FoliagePlacer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Grows one fancy boreal wisteria, the largest of the wisteria trees, on top of a small floating island:
+ * the trunk and its branches first, then a canopy with hangers around every branch tip.
+ * <br>
+ * The island and the tree's random are seeded with fixed seeds, so every invocation grows the same tree.
+ * Run with {@code ./gradlew jmh -PjmhIncludes=WisteriaPlacerBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WisteriaPlacerBenchmark {
+    private static final long SEED = 5_061_972_407L;
+    private static final int RADIUS = 2;
+
+    private TreeFeatureConfig config;
+    private BenchmarkWorld world;
+    private BiConsumer<BlockPos, BlockState> replacer;
+    private BlockPos start;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        BenchmarkBootstrap.init();
+        this.config = AetherConfiguredFeatures.Configs.FANCY_BOREAL_WISTERIA_CONFIG;
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        this.world = BenchmarkWorld.island(SEED, RADIUS);
+        this.replacer = (pos, state) -> this.world.setBlockState(pos, state, Block.NOTIFY_ALL);
+        this.start = this.world.getTopPosition(Heightmap.Type.WORLD_SURFACE_WG, new BlockPos(16, 0, -16));
+    }
+
+    @Benchmark
+    public BenchmarkWorld grow() {
+        Random random = new Random(SEED);
+        int height = this.config.trunkPlacer.getHeight(random);
+        List<FoliagePlacer.TreeNode> nodes = this.config.trunkPlacer.generate(this.world, this.replacer, random, height, this.start, this.config);
+
+        FoliagePlacer foliagePlacer = this.config.foliagePlacer;
+        int foliageHeight = foliagePlacer.getRandomHeight(random, height, this.config);
+        int radius = foliagePlacer.getRandomRadius(random, height - foliageHeight);
+        for (FoliagePlacer.TreeNode node : nodes) {
+            foliagePlacer.generate(this.world, this.replacer, random, this.config, height, node, foliageHeight, radius);
+        }
+        return this.world;
+    }
+}
@@ -0,0 +1,94 @@
+package net.id.aether.world.gen.carver;
+
+import net.id.aether.blocks.AetherBlocks;
+import net.id.aether.world.BenchmarkBootstrap;
+import net.id.aether.world.BenchmarkWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.floatprovider.ConstantFloatProvider;
+import net.minecraft.util.math.floatprovider.UniformFloatProvider;
+import net.minecraft.util.math.intprovider.ConstantIntProvider;
+import net.minecraft.util.math.intprovider.UniformIntProvider;
+import net.minecraft.util.registry.BuiltinRegistries;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.BiomeKeys;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.UpgradeData;
+import net.minecraft.world.gen.ChunkRandom;
+import net.minecraft.world.gen.YOffset;
+import net.minecraft.world.gen.carver.CarverContext;
+import net.minecraft.world.gen.heightprovider.UniformHeightProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carves the cold aerclouds of one chunk, the way chunk generation does:
+ * every chunk within the carver's reach gets its own seeded attempt at starting a cloud system,
+ * and whatever reaches the middle chunk is carved into it.
+ * <br>
+ * The world seed is fixed, so every run carves the same clouds.
+ * Run with {@code ./gradlew jmh -PjmhIncludes=CloudCarverBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CloudCarverBenchmark {
+    private static final long SEED = 8_429_517_113L;
+    private static final int RANGE = 4;
+    private static final ChunkPos TARGET = new ChunkPos(0, 0);
+
+    private final ChunkRandom random = new ChunkRandom();
+    private CloudCarver carver;
+    private CloudCarverConfig config;
+    private BenchmarkWorld world;
+    private Biome biome;
+    private ProtoChunk chunk;
+    private CarverContext context;
+    private BitSet carvingMask;
+
+    // The same settings as AetherCarvers, built here so the benchmark doesn't register anything
+    @Param({"upper", "giant"})
+    public String cloud;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        BenchmarkBootstrap.init();
+        this.carver = new CloudCarver(CloudCarverConfig.CODEC);
+        this.config = switch (this.cloud) {
+            case "upper" -> new CloudCarverConfig(0.15F, UniformHeightProvider.create(YOffset.aboveBottom(96), YOffset.fixed(256)), UniformFloatProvider.create(0.1F, 0.9F), YOffset.aboveBottom(32), false, UniformFloatProvider.create(0.8F, 2F), UniformFloatProvider.create(0.6F, 1.5F), AetherBlocks.COLD_AERCLOUD.getDefaultState(), ConstantFloatProvider.create(0.1F), UniformFloatProvider.create(0.285F, 0.45F), UniformIntProvider.create(3, 5), ConstantIntProvider.create(2), ConstantIntProvider.create(16), ConstantFloatProvider.create(1));
+            case "giant" -> new CloudCarverConfig(0.0075F, UniformHeightProvider.create(YOffset.aboveBottom(112), YOffset.fixed(240)), UniformFloatProvider.create(0.1F, 0.9F), YOffset.aboveBottom(32), false, UniformFloatProvider.create(0.8F, 2F), UniformFloatProvider.create(0.6F, 1.5F), AetherBlocks.COLD_AERCLOUD.getDefaultState(), ConstantFloatProvider.create(0.0125F), UniformFloatProvider.create(0.35F, 0.65F), UniformIntProvider.create(12, 18), ConstantIntProvider.create(3), ConstantIntProvider.create(20), ConstantFloatProvider.create(3.5F));
+            default -> throw new IllegalArgumentException("Unknown cloud " + this.cloud);
+        };
+        this.world = new BenchmarkWorld(SEED, 0);
+        this.biome = BuiltinRegistries.BIOME.get(BiomeKeys.PLAINS);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        // Clouds only carve into air, so every invocation needs an untouched chunk
+        this.chunk = new ProtoChunk(TARGET, UpgradeData.NO_UPGRADE_DATA, this.world);
+        this.context = new CarverContext(BenchmarkBootstrap.chunkGenerator(), this.chunk);
+        this.carvingMask = new BitSet(16 * 16 * BenchmarkWorld.HEIGHT);
+    }
+
+    @Benchmark
+    public ProtoChunk carve() {
+        // Giant clouds are rare, so every source chunk is tried once per salt to get a few of them
+        int attempts = this.cloud.equals("giant") ? 64 : 1;
+        for (int salt = 0; salt < attempts; salt++) {
+            for (int x = TARGET.x - RANGE; x <= TARGET.x + RANGE; x++) {
+                for (int z = TARGET.z - RANGE; z <= TARGET.z + RANGE; z++) {
+                    this.random.setCarverSeed(SEED + salt, x, z);
+                    if (this.carver.shouldCarve(this.config, this.random)) {
+                        this.carver.carve(this.context, this.config, this.chunk, pos -> this.biome, this.random, null, new ChunkPos(x, z), this.carvingMask);
+                    }
+                }
+            }
+        }
+        return this.chunk;
+    }
+}
@@ -6,12 +6,17 @@ import net.id.aether.component.ConditionManager;
 import net.id.aether.registry.AetherRegistries;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.tag.ServerTagManagerHolder;
+import net.minecraft.tag.TagManager;
 import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.ApiStatus;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An API intended to aid use of {@code Condition}s. <br>
@@ -21,15 +26,43 @@ import java.util.stream.Collectors;
  */
 @ApiStatus.Experimental
 public class ConditionAPI {
+    private static final Map<EntityType<?>, BitSet> VALID_CONDITIONS = new ConcurrentHashMap<>();
+    private static volatile TagManager validConditionsTags;
+
     /**
      * @param type The {@code EntityType} to test
      * @return A list of all conditions the given entity is not immune to.
      */
     public static List<Condition> getValidConditions(EntityType<?> type) {
-        return AetherRegistries.CONDITION_REGISTRY
-                .stream()
-                .filter(condition -> !condition.exempt.contains(type))
-                .collect(Collectors.toList());
+        var validIds = getValidConditionIds(type);
+        List<Condition> conditions = new ArrayList<>(validIds.cardinality());
+        for (int id = validIds.nextSetBit(0); id >= 0; id = validIds.nextSetBit(id + 1)) {
+            conditions.add(AetherRegistries.CONDITION_REGISTRY.get(id));
+        }
+        return conditions;
+    }
+
+    /**
+     * The result is computed once per {@code EntityType} and shared, so don't modify it.
+     * It is thrown away whenever the tags are reloaded.
+     * @param type The {@code EntityType} to test
+     * @return The set of {@link Condition#getRawId() raw ids} of all conditions the given entity is not immune to.
+     */
+    public static BitSet getValidConditionIds(EntityType<?> type) {
+        var tags = ServerTagManagerHolder.getTagManager();
+        if (tags != validConditionsTags) {
+            VALID_CONDITIONS.clear();
+            validConditionsTags = tags;
+        }
+        return VALID_CONDITIONS.computeIfAbsent(type, key -> {
+            var validIds = new BitSet();
+            for (Condition condition : AetherRegistries.CONDITION_REGISTRY) {
+                if (!condition.exempt.contains(key)) {
+                    validIds.set(condition.getRawId());
+                }
+            }
+            return validIds;
+        });
     }
 
     /**
@@ -66,7 +99,7 @@ public class ConditionAPI {
      * @param entity The entity whose {@code ConditionManager} you wish to sync.
      */
     public static void trySync(LivingEntity entity) {
-        AetherComponents.CONDITION_MANAGER_KEY.sync(entity);
+        getConditionManager(entity).sync();
     }
 
     /**
@@ -3,6 +3,7 @@ package net.id.aether.api;
 import com.google.common.collect.ImmutableMap;
 import com.mojang.datafixers.util.Function4;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.id.aether.Aether;
@@ -45,6 +46,16 @@ public class MoaAPI {
      */
     private static final Object2ObjectOpenHashMap<Identifier, MoaRace> MOA_RACE_REGISTRY = new Object2ObjectOpenHashMap<>();
 
+    /**
+     * Dense integer ids for every registered {@code MoaRace}, in registration order.
+     * These are used to send races over the network.
+     */
+    private static final List<MoaRace> MOA_RACES_BY_RAW_ID = new ArrayList<>();
+    /**
+     * The reverse of {@code MOA_RACE_REGISTRY} and {@code MOA_RACES_BY_RAW_ID}, looked up by identity.
+     */
+    private static final Reference2ObjectOpenHashMap<MoaRace, RaceIds> MOA_RACE_IDS = new Reference2ObjectOpenHashMap<>();
+
     /**
      * The registry for storing {@code MoaRace} biome spawning information.
      * @see SpawnBucket
@@ -81,6 +92,13 @@ public class MoaAPI {
      */
     public static MoaRace register(Identifier name, MoaRace race){
         MOA_RACE_REGISTRY.put(name, race);
+        RaceIds ids = MOA_RACE_IDS.get(race);
+        if (ids == null) {
+            MOA_RACE_IDS.put(race, new RaceIds(name, MOA_RACES_BY_RAW_ID.size()));
+            MOA_RACES_BY_RAW_ID.add(race);
+        } else {
+            MOA_RACE_IDS.put(race, new RaceIds(name, ids.rawId()));
+        }
         return race;
     }
 
@@ -139,6 +157,24 @@ public class MoaAPI {
         return MOA_RACE_REGISTRY.getOrDefault(raceId, FALLBACK_MOA);
     }
 
+    /**
+     * Raw ids follow registration order and aren't synced, so don't send them to the other side.
+     * @param race The {@code MoaRace} to get the id of
+     * @return The dense integer id of the given {@code MoaRace}, or -1 if it isn't registered.
+     */
+    public static int getRawId(MoaRace race) {
+        RaceIds ids = MOA_RACE_IDS.get(race);
+        return ids != null ? ids.rawId() : -1;
+    }
+
+    /**
+     * @param rawId The integer id of the {@code MoaRace}, as given by {@link MoaAPI#getRawId(MoaRace)}
+     * @return The {@code MoaRace} with the given id, or {@link MoaAPI#FALLBACK_MOA} if there is none.
+     */
+    public static MoaRace getRace(int rawId) {
+        return rawId >= 0 && rawId < MOA_RACES_BY_RAW_ID.size() ? MOA_RACES_BY_RAW_ID.get(rawId) : FALLBACK_MOA;
+    }
+
     /**
      * @return All registered {@code MoaRaces} as an {@code Iterator}
      */
@@ -256,57 +292,113 @@ public class MoaAPI {
             if (this == FALLBACK_MOA) {
                 return Aether.locate("fallback");
             }
-            for (var entry : MOA_RACE_REGISTRY.entrySet()){
-                if (entry.getValue() == this){
-                    return entry.getKey();
-                }
+            RaceIds ids = MOA_RACE_IDS.get(this);
+            if (ids != null) {
+                return ids.id();
             }
             System.out.println("getId() called before race was registered. You had to mess up so bad to get this error.");
             return FALLBACK_MOA.getId();
         }
     }
 
+    /**
+     * The {@code Identifier} and dense integer id a {@code MoaRace} was registered with.
+     */
+    private static record RaceIds(Identifier id, int rawId) {
+    }
+
     /**
      * todo
      */
     private static record SpawnBucketEntry(MoaRace race, int weight) {
-        public boolean test(Random random, int whole) {
-            return random.nextInt(whole) < weight;
-        }
     }
 
     /**
-     * todo
+     * Picks a {@code MoaRace} with a probability proportional to its weight.
+     * <br>
+     * This uses Vose's alias method: every entry gets one column of height {@code totalWeight},
+     * split between itself and one "alias" entry. Picking a column and then a height in it
+     * takes two random numbers, no matter how many entries there are.
+     * The table is rebuilt whenever a race is put in the bucket.
      */
-    private static class SpawnBucket {
+    public static class SpawnBucket {
 
         private final List<SpawnBucketEntry> entries = new ArrayList<>();
-        private SpawnBucketEntry heaviest = new SpawnBucketEntry(FALLBACK_MOA, 0);
         private int totalWeight;
 
+        private MoaRace[] races = new MoaRace[0];
+        // Out of totalWeight, how much of each column belongs to the entry itself
+        private int[] thresholds = new int[0];
+        private int[] aliases = new int[0];
+
         public void put(MoaRace race, int weight) {
 
             if (weight < 1) {
                 throw new IllegalArgumentException(race.getId().toString() + " has an invalid weight, must be 1 or higher!");
             }
 
-            SpawnBucketEntry entry = new SpawnBucketEntry(race, weight);
+            entries.add(new SpawnBucketEntry(race, weight));
+            totalWeight += weight;
+            rebuildAliasTable();
+        }
 
-            if (weight > heaviest.weight) {
-                heaviest = entry;
+        private void rebuildAliasTable() {
+            int size = entries.size();
+            MoaRace[] races = new MoaRace[size];
+            int[] thresholds = new int[size];
+            int[] aliases = new int[size];
+
+            // Weights are scaled by the entry count, so that a column is exactly totalWeight high
+            long[] scaled = new long[size];
+            int[] small = new int[size];
+            int[] large = new int[size];
+            int smallCount = 0, largeCount = 0;
+            for (int i = 0; i < size; i++) {
+                SpawnBucketEntry entry = entries.get(i);
+                races[i] = entry.race();
+                scaled[i] = (long) entry.weight() * size;
+                if (scaled[i] < totalWeight) {
+                    small[smallCount++] = i;
+                } else {
+                    large[largeCount++] = i;
+                }
             }
 
-            entries.add(entry);
-            totalWeight += weight;
+            while (smallCount > 0 && largeCount > 0) {
+                int less = small[--smallCount];
+                int more = large[--largeCount];
+                thresholds[less] = (int) scaled[less];
+                aliases[less] = more;
+                scaled[more] -= totalWeight - scaled[less];
+                if (scaled[more] < totalWeight) {
+                    small[smallCount++] = more;
+                } else {
+                    large[largeCount++] = more;
+                }
+            }
+            // Whatever is left fills its whole column
+            while (largeCount > 0) {
+                int more = large[--largeCount];
+                thresholds[more] = totalWeight;
+                aliases[more] = more;
+            }
+            while (smallCount > 0) {
+                int less = small[--smallCount];
+                thresholds[less] = totalWeight;
+                aliases[less] = less;
+            }
+
+            this.races = races;
+            this.thresholds = thresholds;
+            this.aliases = aliases;
         }
 
         public MoaRace get(Random random) {
-            if (entries.size() == 1) {
-                return entries.get(0).race;
+            if (races.length == 1) {
+                return races[0];
             }
-            Collections.shuffle(entries);
-            Optional<SpawnBucketEntry> entryOptional = entries.stream().filter(entry -> entry.test(random, totalWeight)).findFirst();
-            return entryOptional.map(SpawnBucketEntry::race).orElse(heaviest.race);
+            int column = random.nextInt(races.length);
+            return random.nextInt(totalWeight) < thresholds[column] ? races[column] : races[aliases[column]];
         }
 
     }
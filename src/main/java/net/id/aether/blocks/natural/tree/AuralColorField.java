@@ -0,0 +1,141 @@
+package net.id.aether.blocks.natural.tree;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.id.aether.blocks.util.DynamicColorBlock;
+import net.id.aether.util.RenderUtils;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3i;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The colors of one aural gradient, cached per chunk section.
+ * <br>
+ * Colors only move with time in fancy graphics, and slowly, so time is rounded down to buckets of
+ * {@link #TIME_BUCKET} ticks. Each section keeps the colors it has handed out for its current bucket,
+ * and is filled in lazily, so only positions that are actually asked for are ever computed.
+ * <br>
+ * Chunks are meshed off-thread, so this is safe to query from any thread.
+ */
+public class AuralColorField {
+    /**
+     * How many ticks of the world clock share one set of colors.
+     */
+    public static final int TIME_BUCKET = 8;
+    /**
+     * How many sections are remembered per gradient before the least recently used is dropped.
+     */
+    private static final int MAX_SECTIONS = 256;
+
+    private static final Map<Vec3i[], AuralColorField> FIELDS = new IdentityHashMap<>();
+
+    private final Vec3i[] gradientColors;
+    private final Long2ObjectLinkedOpenHashMap<Section> sections = new Long2ObjectLinkedOpenHashMap<>();
+
+    public AuralColorField(Vec3i[] gradientColors) {
+        this.gradientColors = gradientColors;
+    }
+
+    /**
+     * @return The field shared by every block using this gradient
+     */
+    public static AuralColorField of(Vec3i[] gradientColors) {
+        synchronized (FIELDS) {
+            return FIELDS.computeIfAbsent(gradientColors, AuralColorField::new);
+        }
+    }
+
+    /**
+     * Same as {@link #computeColor}, but with time rounded down to its bucket and the result cached.
+     */
+    public int getColor(BlockPos pos, long time, boolean fastGraphics) {
+        // Fast graphics ignores time entirely, so one bucket covers everything
+        long bucket = fastGraphics ? 0 : Math.floorDiv(time, TIME_BUCKET);
+        long key = ChunkSectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+
+        Section section;
+        synchronized (this) {
+            section = this.sections.getAndMoveToLast(key);
+            if (section == null || section.bucket != bucket || section.fastGraphics != fastGraphics) {
+                section = new Section(bucket, fastGraphics);
+                this.sections.putAndMoveToLast(key, section);
+                if (this.sections.size() > MAX_SECTIONS) {
+                    this.sections.removeFirst();
+                }
+            }
+        }
+
+        int index = (pos.getY() & 15) << 8 | (pos.getZ() & 15) << 4 | (pos.getX() & 15);
+        // Colors always have their alpha set, so 0 means not computed yet.
+        // Two threads racing here both compute the same color, so the unsynchronized write is harmless.
+        int color = section.colors[index];
+        if (color == 0) {
+            color = computeColor(pos, this.gradientColors, bucket * TIME_BUCKET * 0.003F, fastGraphics);
+            section.colors[index] = color;
+        }
+        return color;
+    }
+
+    /**
+     * Mixes the four gradient colors using three layers of simplex noise.
+     *
+     * @param timeOffset The world time scaled to noise space, only used in fancy graphics
+     */
+    public static int computeColor(BlockPos pos, Vec3i[] colorRGBs, float timeOffset, boolean fastGraphics) {
+        Vec3i color1 = colorRGBs[0];
+        Vec3i color2 = colorRGBs[1];
+        Vec3i color3 = colorRGBs[2];
+        Vec3i color4 = colorRGBs[3];
+        float clumpSize = fastGraphics ? 14 : 31;
+        if (fastGraphics) {
+            timeOffset = 0;
+        }
+
+        // First, we mix color 1 and color 2 using noise
+        double simplex = DynamicColorBlock.sampleNoise(pos, clumpSize, 3300 + timeOffset);
+        // Reshape contrast curve
+        double percent = DynamicColorBlock.contrastCurve(36, simplex);
+        percent = percent * (2 - percent);
+        // Interpolate
+        double r1, g1, b1;
+        r1 = (MathHelper.lerp(percent, color1.getX(), color2.getX()));
+        g1 = (MathHelper.lerp(percent, color1.getY(), color2.getY()));
+        b1 = (MathHelper.lerp(percent, color1.getZ(), color2.getZ()));
+
+        // Now we mix colors 3 and 4 together using noise
+        // Rinse, repeat as seen above.
+        double simplex2 = DynamicColorBlock.sampleNoise(pos, clumpSize, 1337 + timeOffset);
+        // Reshape
+        double percent2 = simplex2 * (2 - simplex2);
+        // Interpolate
+        double r2, g2, b2;
+        r2 = (MathHelper.lerp(percent2, color3.getX(), color4.getX()));
+        g2 = (MathHelper.lerp(percent2, color3.getY(), color4.getY()));
+        b2 = (MathHelper.lerp(percent2, color3.getZ(), color4.getZ()));
+
+        // This last section interpolates between r1, g1, b1, and r2, g2, b2, finally mixing all the colors together.
+        double simplex3 = DynamicColorBlock.sampleNoise(pos, clumpSize, 1738 + timeOffset);
+        double finalPercent = DynamicColorBlock.contrastCurve(25, simplex3);
+        // Interpolate
+        int finalR, finalG, finalB;
+        finalR = (int) (MathHelper.lerp(finalPercent, r1, r2));
+        finalG = (int) (MathHelper.lerp(finalPercent, g1, g2));
+        finalB = (int) (MathHelper.lerp(finalPercent, b1, b2));
+
+        return RenderUtils.toHex(finalR, finalG, finalB);
+    }
+
+    private static final class Section {
+        private final long bucket;
+        private final boolean fastGraphics;
+        private final int[] colors = new int[16 * 16 * 16];
+
+        private Section(long bucket, boolean fastGraphics) {
+            this.bucket = bucket;
+            this.fastGraphics = fastGraphics;
+        }
+    }
+}
@@ -30,7 +30,8 @@ public class AuralHangerBlock extends AetherHangerBlock implements DynamicColorB
     @Override
     @Environment(EnvType.CLIENT)
     public BlockColorProvider getBlockColorProvider() {
-        return (state, world, pos, tintIndex) -> AuralLeavesBlock.getAuralColor(pos, gradientColors);
+        AuralColorField field = AuralColorField.of(gradientColors);
+        return (state, world, pos, tintIndex) -> AuralLeavesBlock.getCachedAuralColor(pos, field);
     }
 
     @Override
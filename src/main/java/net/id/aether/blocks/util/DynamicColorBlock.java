@@ -2,6 +2,7 @@ package net.id.aether.blocks.util;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.id.aether.client.rendering.util.DynamicColorRebuildScheduler;
 import net.id.aether.util.SimplexNoise;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.color.block.BlockColorProvider;
@@ -17,9 +18,12 @@ public interface DynamicColorBlock {
     @Environment(EnvType.CLIENT)
     ItemColorProvider getBlockItemColorProvider();
 
+    /**
+     * Asks for the section containing this block to be recolored, see {@link DynamicColorRebuildScheduler}.
+     */
     static void updateBlockColor(BlockPos pos){
         if (!isFastGraphics()) {
-            MinecraftClient.getInstance().worldRenderer.scheduleBlockRenders(pos.getX(), pos.getY(), pos.getZ(), pos.getX(), pos.getY(), pos.getZ());
+            DynamicColorRebuildScheduler.schedule(pos);
         }
     }
 
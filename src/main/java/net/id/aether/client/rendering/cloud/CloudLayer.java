@@ -0,0 +1,74 @@
+package net.id.aether.client.rendering.cloud;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.gl.VertexBuffer;
+import net.minecraft.client.option.CloudRenderMode;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * One of the Aether's cloud layers, along with the geometry last built for it.
+ * <br>
+ * Each layer remembers what its geometry was built for, the same way vanilla does for its single layer,
+ * so a layer is only rebuilt when its own position, color or render mode changes.
+ */
+@Environment(EnvType.CLIENT)
+public class CloudLayer {
+    public final float offset;
+    public final float scale;
+    public final float speed;
+
+    private int blockX = Integer.MIN_VALUE;
+    private int blockY = Integer.MIN_VALUE;
+    private int blockZ = Integer.MIN_VALUE;
+    private Vec3d color = Vec3d.ZERO;
+    private CloudRenderMode renderMode;
+    private boolean dirty = true;
+    private VertexBuffer buffer;
+
+    public CloudLayer(float offset, float scale, float speed) {
+        this.offset = offset;
+        this.scale = scale;
+        this.speed = speed;
+    }
+
+    /**
+     * @return Whether the geometry has to be built again for these parameters, which are remembered if so
+     */
+    public boolean needsRebuild(int blockX, int blockY, int blockZ, Vec3d color, CloudRenderMode renderMode) {
+        if (dirty || blockX != this.blockX || blockY != this.blockY || blockZ != this.blockZ || renderMode != this.renderMode || this.color.squaredDistanceTo(color) > 2.0E-4D) {
+            this.blockX = blockX;
+            this.blockY = blockY;
+            this.blockZ = blockZ;
+            this.color = color;
+            this.renderMode = renderMode;
+            this.dirty = false;
+            return true;
+        }
+        return false;
+    }
+
+    public void markDirty() {
+        dirty = true;
+    }
+
+    public CloudRenderMode getRenderMode() {
+        return renderMode;
+    }
+
+    public VertexBuffer getBuffer() {
+        return buffer;
+    }
+
+    public void setBuffer(VertexBuffer buffer) {
+        close();
+        this.buffer = buffer;
+    }
+
+    public void close() {
+        if (buffer != null) {
+            buffer.close();
+            buffer = null;
+        }
+    }
+}
@@ -1,9 +1,31 @@
 package net.id.aether.client.rendering.util;
 
+import net.id.aether.util.MapColorCreator;
 import net.minecraft.block.MapColor;
 
 public class AetherMapColorUtil {
 
+    // Render colors for every map color byte (color id * 4 + shade) with the Aether palette, 0 until first asked for.
+    // Filled lazily from MapColor.COLORS, so colors other mods add after this class loads are still picked up.
+    private static final int[] AETHER_COLORS = new int[256];
+
+    /**
+     * @return The render color of a map color byte in the Aether palette, or 0 if its color doesn't exist
+     */
+    public static int getAetherColor(int colorByte) {
+        int color = AETHER_COLORS[colorByte];
+        if (color == 0) {
+            // A client on a dedicated server hasn't drawn a map itself, so the background may not be in COLORS yet
+            MapColor material = colorByte >> 2 == MapColorCreator.AETHER_BACKGROUND.id ? MapColorCreator.AETHER_BACKGROUND : MapColor.COLORS[colorByte >> 2];
+            if (material != null) {
+                // Always opaque, so never mistaken for a missing entry
+                color = getColor(material, colorByte & 3);
+                AETHER_COLORS[colorByte] = color;
+            }
+        }
+        return color;
+    }
+
     public static int getColor(MapColor material, int shade) {
         int newColor = recolor(material.id) == -1 ? material.color : recolor(material.id);
 
@@ -0,0 +1,105 @@
+package net.id.aether.client.rendering.util;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.id.aether.blocks.natural.tree.AuralColorField;
+import net.id.aether.blocks.util.DynamicColorBlock;
+import net.minecraft.client.render.WorldRenderer;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+
+/**
+ * Collects the chunk sections that {@link DynamicColorBlock DynamicColorBlocks} want recolored,
+ * and rebuilds them at the start of each frame instead of one block at a time.
+ * <br>
+ * A section is rebuilt at most once every {@link #getInterval() interval} ticks, however many of its blocks asked,
+ * and at most {@link #getBudget() budget} sections are rebuilt per frame. Sections that have to wait stay queued.
+ * <br>
+ * Both can be set with the {@code the_aether.dynamicColorRebuildBudget} and
+ * {@code the_aether.dynamicColorRebuildInterval} system properties, or changed at runtime.
+ */
+@Environment(EnvType.CLIENT)
+public class DynamicColorRebuildScheduler {
+    private static final LongLinkedOpenHashSet PENDING = new LongLinkedOpenHashSet();
+    private static final Long2LongOpenHashMap LAST_REBUILT = new Long2LongOpenHashMap();
+    private static int budget = Math.max(1, Integer.getInteger("the_aether.dynamicColorRebuildBudget", 8));
+    // Rebuilding faster than aural colors change would only redraw the same colors
+    private static int interval = Math.max(0, Integer.getInteger("the_aether.dynamicColorRebuildInterval", AuralColorField.TIME_BUCKET));
+    private static ClientWorld world;
+
+    /**
+     * Queues the section containing this position for a rebuild.
+     */
+    public static void schedule(BlockPos pos) {
+        PENDING.add(ChunkSectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4));
+    }
+
+    /**
+     * Rebuilds as many queued sections as the budget and interval allow. Called once per frame.
+     */
+    public static void flush(WorldRenderer renderer, ClientWorld currentWorld) {
+        if (currentWorld != world) {
+            // Queued sections and rebuild times are meaningless in another world
+            world = currentWorld;
+            PENDING.clear();
+            LAST_REBUILT.clear();
+        }
+        if (world == null || PENDING.isEmpty()) {
+            return;
+        }
+
+        long time = world.getTime();
+        int remaining = budget;
+        for (LongIterator iterator = PENDING.iterator(); iterator.hasNext() && remaining > 0; ) {
+            long section = iterator.nextLong();
+            if (LAST_REBUILT.containsKey(section) && time - LAST_REBUILT.get(section) < interval) {
+                continue;
+            }
+            iterator.remove();
+            LAST_REBUILT.put(section, time);
+            // The three int overload takes section coordinates but marks all 26 neighbours as well.
+            // Vanilla grows a block box by one before picking sections, so staying a block inside the faces marks only this one.
+            int minX = ChunkSectionPos.getBlockCoord(ChunkSectionPos.unpackX(section));
+            int minY = ChunkSectionPos.getBlockCoord(ChunkSectionPos.unpackY(section));
+            int minZ = ChunkSectionPos.getBlockCoord(ChunkSectionPos.unpackZ(section));
+            renderer.scheduleBlockRenders(minX + 1, minY + 1, minZ + 1, minX + 14, minY + 14, minZ + 14);
+            remaining--;
+        }
+
+        if (LAST_REBUILT.size() > 4096) {
+            for (ObjectIterator<Long2LongMap.Entry> iterator = LAST_REBUILT.long2LongEntrySet().fastIterator(); iterator.hasNext(); ) {
+                if (time - iterator.next().getLongValue() >= interval) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    public static int getBudget() {
+        return budget;
+    }
+
+    /**
+     * @param budget How many sections may be rebuilt per frame, at least 1
+     */
+    public static void setBudget(int budget) {
+        DynamicColorRebuildScheduler.budget = Math.max(1, budget);
+    }
+
+    public static int getInterval() {
+        return interval;
+    }
+
+    /**
+     * @param interval How many ticks must pass before the same section is rebuilt again
+     */
+    public static void setInterval(int interval) {
+        DynamicColorRebuildScheduler.interval = Math.max(0, interval);
+    }
+}
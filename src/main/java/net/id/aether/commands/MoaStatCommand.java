@@ -6,7 +6,6 @@ import com.mojang.brigadier.arguments.FloatArgumentType;
 import com.mojang.brigadier.arguments.StringArgumentType;
 import net.id.aether.api.MoaAPI;
 import net.id.aether.entities.passive.moa.MoaAttributes;
-import net.id.aether.component.AetherComponents;
 import net.id.aether.component.MoaGenes;
 import net.id.aether.entities.passive.moa.MoaEntity;
 import net.minecraft.command.argument.EntityArgumentType;
@@ -86,7 +85,7 @@ public class MoaStatCommand {
                     source.sendError(new TranslatableText("commands.aether.moastat.failure.attribute"));
                 }
             }
-            AetherComponents.MOA_GENETICS_KEY.sync(moa);
+            genes.sync(moa);
         } else {
             source.sendError(new TranslatableText("commands.aether.moastat.failure.entity", entity.getType().getName()));
         }
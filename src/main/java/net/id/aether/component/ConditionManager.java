@@ -11,28 +11,55 @@ import net.id.aether.effect.condition.ConditionModifier;
 import net.id.aether.effect.condition.Condition;
 import net.id.aether.effect.condition.Persistence;
 import net.id.aether.effect.condition.Severity;
+import net.id.aether.registry.AetherRegistries;
 import net.minecraft.client.world.ClientWorld;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.effect.StatusEffect;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
-import net.minecraft.util.Pair;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.math.MathHelper;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 public class ConditionManager implements AutoSyncedComponent, CommonTickingComponent, PlayerComponent<ConditionManager> {
 
     private final LivingEntity target;
     private final List<ConditionTracker> conditionTrackers = new ArrayList<>();
+    // Indexed by Condition#getRawId, null for conditions the target is immune to
+    private final ConditionTracker[] trackersById;
+
+    /*
+     * Snapshot of the modifiers currently affecting the target.
+     * Status effect and equipment changes mark it dirty through LivingEntityMixin,
+     * PlayerEntityMixin, PlayerInventoryMixin and TrinketInventoryMixin.
+     * Each tracker keeps the aggregated values for its own condition,
+     * so reading a severity doesn't have to look at the modifiers at all.
+     */
+    private final List<ConditionModifier> activeModifiers = new ArrayList<>();
+    private final List<ConditionModifier> activeModifiersView = Collections.unmodifiableList(activeModifiers);
+    private boolean modifiersDirty = true;
+
+    // Set while sync() is running, so writeSyncPacket knows the recipients already have the rest
+    private boolean syncingChanges = false;
+    // Client side: the trackers in the order the server listed them in its last full packet, see writeSyncPacket
+    private ConditionTracker[] syncedTrackers = new ConditionTracker[0];
 
     public ConditionManager(LivingEntity target) {
         this.target = target;
-        var conditions = ConditionAPI.getValidConditions(target.getType());
-        conditions.forEach(condition -> conditionTrackers.add(new ConditionTracker(condition)));
+        var validIds = ConditionAPI.getValidConditionIds(target.getType());
+        this.trackersById = new ConditionTracker[validIds.length()];
+        for (int id = validIds.nextSetBit(0); id >= 0; id = validIds.nextSetBit(id + 1)) {
+            var tracker = new ConditionTracker(AetherRegistries.CONDITION_REGISTRY.get(id));
+            trackersById[id] = tracker;
+            conditionTrackers.add(tracker);
+        }
     }
 
     @Override
@@ -76,6 +103,7 @@ public class ConditionManager implements AutoSyncedComponent, CommonTickingCompo
                 case CHRONIC -> tracker.chronVal = value;
                 case CONSTANT -> throw new IllegalArgumentException("Constant condition values may not be directly edited");
             }
+            tracker.dirty = true;
             return true;
         }).orElse(false);
     }
@@ -105,16 +133,12 @@ public class ConditionManager implements AutoSyncedComponent, CommonTickingCompo
     }
 
     public boolean isImmuneTo(Condition condition) {
-        return conditionTrackers.stream().noneMatch(tracker -> tracker.getCondition() == condition);
+        return this.getConditionTracker(condition) == null;
     }
 
     private ConditionTracker getConditionTracker(Condition condition){
-        for (var tracker : conditionTrackers) {
-            if (tracker.getCondition() == condition){
-                return tracker;
-            }
-        }
-        return null;
+        int id = condition.getRawId();
+        return id >= 0 && id < trackersById.length ? trackersById[id] : null;
     }
 
     public boolean tryApply(Condition condition, Persistence persistence, float amount) {
@@ -135,13 +159,12 @@ public class ConditionManager implements AutoSyncedComponent, CommonTickingCompo
     }
 
     public float getDecayMultiplier(@NotNull Condition condition) {
-        var modifiers = getActiveModifiers();
-        if(!modifiers.isEmpty()) {
-            return (float) modifiers.stream()
-                    .mapToDouble(mod -> mod.getDecayMultiplier(condition))
-                    .average().orElse(1);
+        var tracker = this.getConditionTracker(condition);
+        if (tracker != null) {
+            updateModifiers();
+            return tracker.decayMultiplier;
         }
-        return 1;
+        return averageOf(getActiveModifiers(), condition, ConditionModifier::getDecayMultiplier);
     }
 
     public float getScaledSeverity(@NotNull Condition condition) {
@@ -149,58 +172,112 @@ public class ConditionManager implements AutoSyncedComponent, CommonTickingCompo
     }
 
     public float getSeverityMultiplier(@NotNull Condition condition) {
-        return (float) getActiveModifiers().stream().mapToDouble(mod -> mod.getSeverityMultiplier(condition)).average().orElse(1);
+        var tracker = this.getConditionTracker(condition);
+        if (tracker != null) {
+            updateModifiers();
+            return tracker.severityMultiplier;
+        }
+        return averageOf(getActiveModifiers(), condition, ConditionModifier::getSeverityMultiplier);
     }
 
     public float getScalingValueForCondition(@NotNull Condition condition) {
-        var modifiers = getActiveModifiers();
-        float scalingValue = condition.scalingValue;
-        scalingValue *= modifiers.stream().mapToDouble(mod -> mod.getScalingMultiplier(condition)).average().orElse(1);
-        scalingValue += modifiers.stream().mapToDouble(mod -> mod.getScalingOffset(condition)).sum();
-        return scalingValue;
+        var tracker = this.getConditionTracker(condition);
+        if (tracker != null) {
+            updateModifiers();
+            return tracker.scalingValue;
+        }
+        return computeScalingValue(getActiveModifiers(), condition);
     }
 
     public float getRawCondition(@NotNull Condition condition) {
-        return Optional.ofNullable(this.getConditionTracker(condition)).map(tracker -> {
-            float partial = tracker.getPartialCondition();
-            partial += getActiveModifiers().stream().mapToDouble(mod -> mod.getConstantCondition(condition)).sum();
-            return partial;
-        }).orElseThrow(() -> new IllegalStateException("HOW in the FUCK do you get an invalid condition here: " + condition.getId()));
+        var tracker = this.getConditionTracker(condition);
+        if (tracker == null) {
+            throw new IllegalStateException("HOW in the FUCK do you get an invalid condition here: " + condition.getId());
+        }
+        updateModifiers();
+        return tracker.getPartialCondition() + tracker.constantCondition;
     }
 
     public List<ConditionModifier> getActiveModifiers() {
-        List<ConditionModifier> modifiers = new ArrayList<>();
-        if(target instanceof PlayerEntity player) {
-            var stacks =
-                    TrinketsApi.TRINKET_COMPONENT.get(player)
-                            .getEquipped(stack -> stack.getItem() instanceof ConditionModifier)
-                            .stream().map(Pair::getRight).collect(Collectors.toList());
+        updateModifiers();
+        return activeModifiersView;
+    }
 
-            player.getArmorItems().forEach(stack -> {
-                if(stack.getItem() instanceof ConditionModifier)
-                    stacks.add(stack);
-            });
+    /**
+     * Forces the active modifiers to be collected again the next time they are needed.
+     * Called whenever the target's status effects or equipment change.
+     */
+    public void invalidateModifiers() {
+        modifiersDirty = true;
+    }
 
-            if(player.getMainHandStack().getItem() instanceof ConditionModifier)
-                stacks.add(player.getMainHandStack());
+    private void updateModifiers() {
+        if (!modifiersDirty) {
+            return;
+        }
+        modifiersDirty = false;
+
+        activeModifiers.clear();
+        if (target instanceof PlayerEntity player) {
+            collectEquippedModifiers(player, activeModifiers);
+        }
+        for (StatusEffect statusEffect : target.getActiveStatusEffects().keySet()) {
+            if (statusEffect instanceof ConditionModifier modifier) {
+                activeModifiers.add(modifier);
+            }
+        }
 
-            if(player.getOffHandStack().getItem() instanceof ConditionModifier)
-                stacks.add(player.getOffHandStack());
+        for (var tracker : conditionTrackers) {
+            tracker.updateModifiers(activeModifiers);
+        }
+    }
 
-            stacks.forEach(stack -> modifiers.add((ConditionModifier) stack.getItem()));
+    private static void collectEquippedModifiers(PlayerEntity player, List<ConditionModifier> modifiers) {
+        for (var pair : TrinketsApi.TRINKET_COMPONENT.get(player).getEquipped(stack -> stack.getItem() instanceof ConditionModifier)) {
+            modifiers.add((ConditionModifier) pair.getRight().getItem());
         }
 
-        target.getActiveStatusEffects().forEach((statusEffect, statusEffectInstance) -> {
-            if(statusEffect instanceof ConditionModifier modifier) {
+        for (ItemStack stack : player.getArmorItems()) {
+            if (stack.getItem() instanceof ConditionModifier modifier)
                 modifiers.add(modifier);
-            }
-        });
+        }
+
+        if (player.getMainHandStack().getItem() instanceof ConditionModifier modifier)
+            modifiers.add(modifier);
+
+        if (player.getOffHandStack().getItem() instanceof ConditionModifier modifier)
+            modifiers.add(modifier);
+    }
+
+    private static float averageOf(List<ConditionModifier> modifiers, Condition condition, ModifierValue value) {
+        if (modifiers.isEmpty()) {
+            return 1;
+        }
+        double sum = 0;
+        for (var modifier : modifiers) {
+            sum += value.get(modifier, condition);
+        }
+        return (float) (sum / modifiers.size());
+    }
 
-        return modifiers;
+    private static float sumOf(List<ConditionModifier> modifiers, Condition condition, ModifierValue value) {
+        double sum = 0;
+        for (var modifier : modifiers) {
+            sum += value.get(modifier, condition);
+        }
+        return (float) sum;
+    }
+
+    private static float computeScalingValue(List<ConditionModifier> modifiers, Condition condition) {
+        float scalingValue = condition.scalingValue;
+        scalingValue *= averageOf(modifiers, condition, ConditionModifier::getScalingMultiplier);
+        scalingValue += sumOf(modifiers, condition, ConditionModifier::getScalingOffset);
+        return scalingValue;
     }
 
     @Override
     public void readFromNbt(NbtCompound tag) {
+        invalidateModifiers();
         conditionTrackers.forEach(tracker -> {
             var condition = tracker.getCondition();
             if(tag.contains(condition.getId().toString())) {
@@ -218,6 +295,81 @@ public class ConditionManager implements AutoSyncedComponent, CommonTickingCompo
         });
     }
 
+    /**
+     * Sends the conditions that changed since the last call to every player tracking the target.
+     * Players that start tracking the target later are sent all of them by Cardinal Components.
+     */
+    public void sync() {
+        syncingChanges = true;
+        try {
+            AetherComponents.CONDITION_MANAGER_KEY.sync(target);
+        } finally {
+            syncingChanges = false;
+            conditionTrackers.forEach(tracker -> tracker.dirty = false);
+        }
+    }
+
+    /**
+     * The condition registry isn't synced, so raw ids may differ between server and client.
+     * A full packet writes every condition's id followed by both values, in the order of conditionTrackers.
+     * The packets written from {@link ConditionManager#sync()} only carry the changed conditions,
+     * each as its index in that order, which the client remembers from the last full packet.
+     */
+    @Override
+    public void writeSyncPacket(PacketByteBuf buf, ServerPlayerEntity recipient) {
+        buf.writeBoolean(syncingChanges);
+        if (!syncingChanges) {
+            buf.writeVarInt(conditionTrackers.size());
+            for (var tracker : conditionTrackers) {
+                buf.writeIdentifier(tracker.getCondition().getId());
+                buf.writeFloat(tracker.tempVal);
+                buf.writeFloat(tracker.chronVal);
+            }
+            return;
+        }
+
+        int count = 0;
+        for (var tracker : conditionTrackers) {
+            if (tracker.dirty) {
+                count++;
+            }
+        }
+        buf.writeVarInt(count);
+        for (int i = 0; i < conditionTrackers.size(); i++) {
+            var tracker = conditionTrackers.get(i);
+            if (tracker.dirty) {
+                buf.writeVarInt(i);
+                buf.writeFloat(tracker.tempVal);
+                buf.writeFloat(tracker.chronVal);
+            }
+        }
+    }
+
+    @Override
+    public void applySyncPacket(PacketByteBuf buf) {
+        boolean changesOnly = buf.readBoolean();
+        int count = buf.readVarInt();
+        if (!changesOnly) {
+            syncedTrackers = new ConditionTracker[count];
+        }
+        for (int i = 0; i < count; i++) {
+            ConditionTracker tracker;
+            if (changesOnly) {
+                int index = buf.readVarInt();
+                tracker = index < syncedTrackers.length ? syncedTrackers[index] : null;
+            } else {
+                tracker = AetherRegistries.CONDITION_REGISTRY.getOrEmpty(buf.readIdentifier()).map(this::getConditionTracker).orElse(null);
+                syncedTrackers[i] = tracker;
+            }
+            float tempVal = buf.readFloat();
+            float chronVal = buf.readFloat();
+            if (tracker != null) {
+                tracker.tempVal = tempVal;
+                tracker.chronVal = chronVal;
+            }
+        }
+    }
+
     @Override
     public void copyFrom(ConditionManager other) {
         PlayerComponent.super.copyFrom(other);
@@ -235,15 +387,36 @@ public class ConditionManager implements AutoSyncedComponent, CommonTickingCompo
         return true;
     }
 
+    @FunctionalInterface
+    private interface ModifierValue {
+        float get(ConditionModifier modifier, Condition condition);
+    }
+
     private static class ConditionTracker {
 
         private final Condition parent;
 
         private float tempVal;
         private float chronVal;
+        // Whether the values changed since the last sync
+        private boolean dirty = true;
+
+        // Aggregated from the active modifiers, see ConditionManager#updateModifiers
+        private float decayMultiplier = 1;
+        private float severityMultiplier = 1;
+        private float scalingValue;
+        private float constantCondition;
 
         public ConditionTracker(Condition parent) {
             this.parent = parent;
+            this.scalingValue = parent.scalingValue;
+        }
+
+        public void updateModifiers(List<ConditionModifier> modifiers) {
+            decayMultiplier = averageOf(modifiers, parent, ConditionModifier::getDecayMultiplier);
+            severityMultiplier = averageOf(modifiers, parent, ConditionModifier::getSeverityMultiplier);
+            scalingValue = computeScalingValue(modifiers, parent);
+            constantCondition = sumOf(modifiers, parent, ConditionModifier::getConstantCondition);
         }
 
         public Condition getCondition(){
@@ -251,17 +424,21 @@ public class ConditionManager implements AutoSyncedComponent, CommonTickingCompo
         }
 
         public void add(Persistence persistence, float amount) {
+            float oldTemp = tempVal, oldChron = chronVal;
             switch (persistence) {
                 case TEMPORARY -> tempVal = Math.min(parent.maxTemp, tempVal + amount);
                 case CHRONIC -> chronVal = Math.min(parent.maxChron, chronVal + amount);
             }
+            dirty |= tempVal != oldTemp || chronVal != oldChron;
         }
 
         public void remove(Persistence persistence, float amount) {
+            float oldTemp = tempVal, oldChron = chronVal;
             switch (persistence) {
                 case TEMPORARY -> tempVal = Math.max(0, tempVal - amount);
                 case CHRONIC -> chronVal = Math.max(0, chronVal - amount);
             }
+            dirty |= tempVal != oldTemp || chronVal != oldChron;
         }
 
         public float getPartialCondition() {
@@ -271,6 +448,7 @@ public class ConditionManager implements AutoSyncedComponent, CommonTickingCompo
         public void fromNbt(NbtCompound nbt) {
             tempVal = nbt.getFloat("temporary");
             chronVal = nbt.getFloat("chronic");
+            dirty = true;
         }
 
         public void writeToNbt(NbtCompound nbt) {
@@ -10,6 +10,8 @@ import net.id.aether.entities.passive.moa.MoaEntity;
 import net.id.aether.items.AetherItems;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -23,6 +25,17 @@ import static net.id.aether.api.MoaAPI.FALLBACK_MOA;
 
 public class MoaGenes implements AutoSyncedComponent {
 
+    // Bits of dirtyFields, one per field that can be synced on its own
+    private static final int INITIALIZED = 1;
+    private static final int RACE = 1 << 1;
+    private static final int AFFINITY = 1 << 2;
+    private static final int LEGENDARY = 1 << 3;
+    private static final int HUNGER = 1 << 4;
+    private static final int OWNER = 1 << 5;
+    private static final int ALL_FIELDS = INITIALIZED | RACE | AFFINITY | LEGENDARY | HUNGER | OWNER;
+    // dirtyAttributes has one bit per MoaAttributes ordinal
+    private static final int ALL_ATTRIBUTES = (1 << MoaAttributes.values().length) - 1;
+
     private final Object2FloatOpenHashMap<MoaAttributes> attributeMap = new Object2FloatOpenHashMap<>();
     private MoaAPI.MoaRace race = FALLBACK_MOA;
     private MoaAttributes affinity;
@@ -30,6 +43,11 @@ public class MoaGenes implements AutoSyncedComponent {
     private UUID owner;
     private float hunger = 100F;
 
+    private int dirtyFields = ALL_FIELDS;
+    private int dirtyAttributes = ALL_ATTRIBUTES;
+    // Set while sync() is running, so writeSyncPacket knows the recipients already have the rest
+    private boolean syncingChanges;
+
     public MoaGenes() {
     }
 
@@ -75,6 +93,7 @@ public class MoaGenes implements AutoSyncedComponent {
             attributeMap.addTo(attribute, race.statWeighting().configure(attribute, race, random));
         }
         initialized = true;
+        markAllDirty();
     }
 
     public ItemStack getEggForBreeding(MoaGenes otherParent, World world, BlockPos pos) {
@@ -109,6 +128,7 @@ public class MoaGenes implements AutoSyncedComponent {
 
     public void setAttribute(MoaAttributes attribute, float value) {
         attributeMap.put(attribute, value);
+        dirtyAttributes |= 1 << attribute.ordinal();
     }
 
     public MoaAttributes getAffinity() {
@@ -139,6 +159,7 @@ public class MoaGenes implements AutoSyncedComponent {
 
     public void setHunger(float hunger) {
         this.hunger = Math.max(Math.min(hunger, 100), 0);
+        dirtyFields |= HUNGER;
     }
 
     public boolean isTamed() {
@@ -147,6 +168,7 @@ public class MoaGenes implements AutoSyncedComponent {
 
     public void tame(UUID newOwner) {
         this.owner = newOwner;
+        dirtyFields |= OWNER;
     }
 
     public UUID getOwner() {
@@ -166,6 +188,7 @@ public class MoaGenes implements AutoSyncedComponent {
             }
             Arrays.stream(MoaAttributes.values()).forEach(attribute -> attributeMap.put(attribute, tag.getFloat(attribute.name())));
         }
+        markAllDirty();
     }
 
     @Override
@@ -183,4 +206,89 @@ public class MoaGenes implements AutoSyncedComponent {
             Arrays.stream(MoaAttributes.values()).forEach(attribute -> tag.putFloat(attribute.name(), attributeMap.getFloat(attribute)));
         }
     }
+
+    /**
+     * Sends the genes that changed since the last call to every player tracking the given moa.
+     * Players that start tracking the moa later are sent all of them by Cardinal Components.
+     */
+    public void sync(MoaEntity moa) {
+        syncingChanges = true;
+        try {
+            AetherComponents.MOA_GENETICS_KEY.sync(moa);
+        } finally {
+            syncingChanges = false;
+            dirtyFields = 0;
+            dirtyAttributes = 0;
+        }
+    }
+
+    private void markAllDirty() {
+        dirtyFields = ALL_FIELDS;
+        dirtyAttributes = ALL_ATTRIBUTES;
+    }
+
+    @Override
+    public void writeSyncPacket(PacketByteBuf buf, ServerPlayerEntity recipient) {
+        int fields = syncingChanges ? dirtyFields : ALL_FIELDS;
+        int attributes = syncingChanges ? dirtyAttributes : ALL_ATTRIBUTES;
+        buf.writeVarInt(fields);
+        buf.writeVarInt(attributes);
+        if ((fields & INITIALIZED) != 0) {
+            buf.writeBoolean(initialized);
+        }
+        if ((fields & RACE) != 0) {
+            // Races aren't synced to the client, so their raw ids may differ; the race only changes before the first sync anyway
+            buf.writeIdentifier(race.getId());
+        }
+        if ((fields & AFFINITY) != 0) {
+            buf.writeVarInt(affinity == null ? 0 : affinity.ordinal() + 1);
+        }
+        if ((fields & LEGENDARY) != 0) {
+            buf.writeBoolean(legendary);
+        }
+        if ((fields & HUNGER) != 0) {
+            buf.writeFloat(hunger);
+        }
+        if ((fields & OWNER) != 0) {
+            buf.writeBoolean(owner != null);
+            if (owner != null) {
+                buf.writeUuid(owner);
+            }
+        }
+        for (MoaAttributes attribute : MoaAttributes.values()) {
+            if ((attributes & (1 << attribute.ordinal())) != 0) {
+                buf.writeFloat(attributeMap.getFloat(attribute));
+            }
+        }
+    }
+
+    @Override
+    public void applySyncPacket(PacketByteBuf buf) {
+        int fields = buf.readVarInt();
+        int attributes = buf.readVarInt();
+        if ((fields & INITIALIZED) != 0) {
+            initialized = buf.readBoolean();
+        }
+        if ((fields & RACE) != 0) {
+            race = MoaAPI.getRace(buf.readIdentifier());
+        }
+        if ((fields & AFFINITY) != 0) {
+            int affinityId = buf.readVarInt();
+            affinity = affinityId == 0 ? null : MoaAttributes.values()[affinityId - 1];
+        }
+        if ((fields & LEGENDARY) != 0) {
+            legendary = buf.readBoolean();
+        }
+        if ((fields & HUNGER) != 0) {
+            hunger = buf.readFloat();
+        }
+        if ((fields & OWNER) != 0) {
+            owner = buf.readBoolean() ? buf.readUuid() : null;
+        }
+        for (MoaAttributes attribute : MoaAttributes.values()) {
+            if ((attributes & (1 << attribute.ordinal())) != 0) {
+                attributeMap.put(attribute, buf.readFloat());
+            }
+        }
+    }
 }
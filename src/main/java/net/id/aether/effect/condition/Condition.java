@@ -63,6 +63,8 @@ public abstract class Condition {
      */
     public final float visThreshold;
 
+    private int rawId = -1;
+
     /**
      * @param exempt See {@link Condition#exempt}
      * @param maxTemp See {@link Condition#maxTemp}
@@ -91,6 +93,18 @@ public abstract class Condition {
         return AetherRegistries.CONDITION_REGISTRY.getId(this);
     }
 
+    /**
+     * Conditions are never unregistered, so this is looked up once and then cached.
+     * @return The dense integer id of the condition in {@link AetherRegistries#CONDITION_REGISTRY},
+     * or -1 if it isn't registered.
+     */
+    public final int getRawId() {
+        if (rawId == -1) {
+            rawId = AetherRegistries.CONDITION_REGISTRY.getRawId(this);
+        }
+        return rawId;
+    }
+
     /**
      *
      * @param entity A {@code LivingEntity} to be tested.
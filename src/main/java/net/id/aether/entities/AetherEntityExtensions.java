@@ -23,6 +23,19 @@ public interface AetherEntityExtensions {
 
     void setFlipped();
 
+    /**
+     * Called whenever something this entity is wearing may have changed,
+     * so equipment-derived state gets recomputed on its next use.
+     */
+    default void markEquipmentChanged() {
+    }
+
+    /**
+     * While set, this entity ignores knockback. Swets set it around their hits on entities they have absorbed.
+     */
+    default void setKnockbackImmune(boolean knockbackImmune) {
+    }
+
     default void tick(){
     }
 }
@@ -7,6 +7,7 @@ import net.id.aether.blocks.AetherBlocks;
 import net.id.aether.entities.AetherEntityTypes;
 import net.id.aether.entities.util.floatingblock.FloatingBlockHelper;
 import net.id.aether.tag.AetherBlockTags;
+import net.id.aether.world.AetherWorldExtensions;
 import net.minecraft.block.*;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.entity.Entity;
@@ -188,7 +189,7 @@ public class FloatingBlockEntity extends Entity {
 
             // Take flight, my child!
             if (!FallingBlock.canFallThrough(this.floatTile)) {
-                List<Entity> otherEntities = this.world.getOtherEntities(this, getBoundingBox().union(getBoundingBox().offset(0, 1 + -2 * this.getVelocity().getY(), 0)));
+                List<Entity> otherEntities = ((AetherWorldExtensions) this.world).getFloatingBlockEntities().getOtherEntities(this.world, this, getBoundingBox().union(getBoundingBox().offset(0, 1 + -2 * this.getVelocity().getY(), 0)));
                 for (Entity entity : otherEntities) {
                     if (!(entity instanceof FloatingBlockEntity) && !entity.noClip && this.collides()) {
                         entity.fallDistance = 0F;
@@ -243,7 +244,7 @@ public class FloatingBlockEntity extends Entity {
         if (this.hurtEntities) {
             int i = MathHelper.ceil(distance - 1.0F);
             if (i > 0) {
-                List<Entity> list = Lists.newArrayList(this.world.getOtherEntities(this, this.getBoundingBox()));
+                List<Entity> list = Lists.newArrayList(((AetherWorldExtensions) this.world).getFloatingBlockEntities().getOtherEntities(this.world, this, this.getBoundingBox()));
                 boolean flag = this.floatTile.isIn(BlockTags.ANVIL);
                 DamageSource damagesource = flag ? DamageSource.ANVIL : DamageSource.FALLING_BLOCK;
 
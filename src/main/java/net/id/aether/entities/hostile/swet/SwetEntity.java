@@ -1,12 +1,12 @@
 package net.id.aether.entities.hostile.swet;
 
+import net.id.aether.entities.AetherEntityExtensions;
 import net.id.aether.entities.block.FloatingBlockEntity;
 import net.id.aether.items.AetherItems;
 import net.id.aether.tag.AetherItemTags;
 import net.minecraft.entity.*;
 import net.minecraft.entity.ai.goal.FollowTargetGoal;
 import net.minecraft.entity.attribute.DefaultAttributeContainer;
-import net.minecraft.entity.attribute.EntityAttributeInstance;
 import net.minecraft.entity.attribute.EntityAttributeModifier;
 import net.minecraft.entity.attribute.EntityAttributes;
 import net.minecraft.entity.mob.HostileEntity;
@@ -30,15 +30,12 @@ import net.minecraft.world.*;
 import net.minecraft.world.event.GameEvent;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
 import java.util.Random;
 import java.util.function.IntConsumer;
 import java.util.function.Predicate;
 
 public abstract class SwetEntity extends SlimeEntity {
-    protected static final EntityAttributeModifier knockbackResistanceModifier = new EntityAttributeModifier(
-            "Temporary swet knockback resistance",
-            1,
-            EntityAttributeModifier.Operation.ADDITION);
     public IntConsumer setRandomLookTimer;
     protected int initialSize = 2;
     protected float massStuck = 0;
@@ -128,12 +125,19 @@ public abstract class SwetEntity extends SlimeEntity {
     public void tick() {
         // Entities don't have onEntityCollision, so this does that
         if (!this.isDead()) {
+            // One query covers both the mass and the collisions, since the stretched box contains our own
+            Box bounds = this.getBoundingBox();
+            List<Entity> nearby = world.getOtherEntities(this, bounds.stretch(0.9, 0.9, 0.9));
             massStuck = 0;
-            world.getOtherEntities(this, this.getBoundingBox().stretch(0.9, 0.9, 0.9)).forEach((entity) -> {
+            for (Entity entity : nearby) {
                 Box box = entity.getBoundingBox();
                 massStuck += box.getXLength() * box.getYLength() * box.getZLength();
-            });
-            world.getOtherEntities(this, this.getBoundingBox()).forEach(this::onEntityCollision);
+            }
+            for (Entity entity : nearby) {
+                if (entity.getBoundingBox().intersects(bounds)) {
+                    this.onEntityCollision(entity);
+                }
+            }
         }
         super.tick();
     }
@@ -188,12 +192,15 @@ public abstract class SwetEntity extends SlimeEntity {
         }
 
         if (entity instanceof LivingEntity livingEntity) {
-            // Hack to prevent knockback; TODO: find a better way to prevent knockback
-            EntityAttributeInstance knockbackResistance = livingEntity.getAttributeInstance(EntityAttributes.GENERIC_KNOCKBACK_RESISTANCE);
-            if (absorbable && knockbackResistance != null) {
-                knockbackResistance.addTemporaryModifier(knockbackResistanceModifier);
-                this.damage(livingEntity);
-                knockbackResistance.removeModifier(knockbackResistanceModifier);
+            // Absorbed entities don't get knocked out of the swet by its own hits
+            if (absorbable) {
+                AetherEntityExtensions extensions = (AetherEntityExtensions) livingEntity;
+                extensions.setKnockbackImmune(true);
+                try {
+                    this.damage(livingEntity);
+                } finally {
+                    extensions.setKnockbackImmune(false);
+                }
             } else {
                 this.damage(livingEntity);
             }
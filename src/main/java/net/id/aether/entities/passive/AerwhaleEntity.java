@@ -1,5 +1,7 @@
 package net.id.aether.entities.passive;
 
+import net.id.aether.entities.util.AerwhaleProbeCache;
+import net.id.aether.world.AetherWorldExtensions;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.SpawnReason;
@@ -179,6 +181,13 @@ public class AerwhaleEntity extends FlyingEntity {
      */
     @SuppressWarnings("JavadocReference")
     static class MoveHelperController extends MoveControl {
+        private static final int REACHABLE = 0;
+        private static final int BLOCKED = 1;
+        /**
+         * The world's probe budget for this tick ran out before an answer was found.
+         */
+        private static final int OUT_OF_BUDGET = 2;
+
         private final AerwhaleEntity parentEntity;
         private int courseChangeCooldown;
 
@@ -195,7 +204,11 @@ public class AerwhaleEntity extends FlyingEntity {
                     Vec3d Vector3d = new Vec3d(this.getTargetX() - this.parentEntity.getX(), this.getTargetY() - this.parentEntity.getY(), this.getTargetZ() - this.parentEntity.getZ());
                     double d0 = Vector3d.length();
                     Vector3d = Vector3d.normalize();
-                    if (this.canReach(Vector3d, MathHelper.ceil(d0))) {
+                    int canReach = this.canReach(Vector3d, MathHelper.ceil(d0));
+                    if (canReach == OUT_OF_BUDGET) {
+                        // Try again on the next tick
+                        this.courseChangeCooldown = 1;
+                    } else if (canReach == REACHABLE) {
                         this.parentEntity.setVelocity(this.parentEntity.getVelocity().add(Vector3d.multiply(0.1D)));
                         double dx = this.getTargetX() - this.entity.getX();
                         double dz = this.getTargetZ() - this.entity.getZ();
@@ -216,17 +229,27 @@ public class AerwhaleEntity extends FlyingEntity {
             }
         }
 
-        private boolean canReach(Vec3d vec, int p_220673_2_) {
+        /**
+         * Probes go through the world's {@link AerwhaleProbeCache}, so nearby aerwhales share them
+         * and the number of fresh ones per tick stays bounded however many aerwhales there are.
+         *
+         * @return {@link #REACHABLE}, {@link #BLOCKED} or {@link #OUT_OF_BUDGET}
+         */
+        private int canReach(Vec3d vec, int p_220673_2_) {
+            AerwhaleProbeCache probes = ((AetherWorldExtensions) this.parentEntity.world).getAerwhaleProbes();
             Box axisalignedbb = this.parentEntity.getBoundingBox();
 
             for (int i = 1; i < p_220673_2_; ++i) {
                 axisalignedbb = axisalignedbb.offset(vec);
-                if (!this.parentEntity.world.hasBlockCollision(this.parentEntity, axisalignedbb, (state, posx) -> state.shouldSuffocate(this.parentEntity.world, posx))) {
-                    return false;
+                switch (probes.probe(this.parentEntity.world, this.parentEntity, axisalignedbb)) {
+                    case AerwhaleProbeCache.FREE:
+                        return BLOCKED;
+                    case AerwhaleProbeCache.UNKNOWN:
+                        return OUT_OF_BUDGET;
                 }
             }
 
-            return true;
+            return REACHABLE;
         }
     }
 
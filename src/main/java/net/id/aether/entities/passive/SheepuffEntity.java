@@ -23,6 +23,7 @@ import net.minecraft.inventory.CraftingInventory;
 import net.minecraft.item.*;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.recipe.Ingredient;
+import net.minecraft.recipe.RecipeManager;
 import net.minecraft.recipe.RecipeType;
 import net.minecraft.screen.ScreenHandler;
 import net.minecraft.server.world.ServerWorld;
@@ -48,6 +49,10 @@ public class SheepuffEntity extends AetherAnimalEntity {
     @SuppressWarnings("RedundantCast")
     private static final Map<DyeColor, float[]> COLORS = Maps.newEnumMap((Map<DyeColor, float[]>) Arrays.stream(DyeColor.values()).collect(Collectors.toMap((dyeColor_1) -> dyeColor_1, SheepuffEntity::getDyedColor)));
     private static final Map<DyeColor, ItemConvertible> DROPS;
+    // What each pair of parent colors mixes into, indexed by parentColor * 16 + mateColor
+    private static final byte UNKNOWN_MIX = -2, NO_MIX = -1;
+    private static final byte[] MIXED_COLORS = new byte[16 * 16];
+    private static RecipeManager mixingRecipeManager;
 
     static {
         DROPS = Util.make(Maps.newEnumMap(DyeColor.class), (enumMap_1) -> {
@@ -356,13 +361,32 @@ public class SheepuffEntity extends AetherAnimalEntity {
         DyeColor parentColor = ((SheepuffEntity) entity).getColor();
         DyeColor mateColor = ((SheepuffEntity) mate).getColor();
 
-        CraftingInventory craftingInventory_1 = createDyeMixingCraftingInventory(parentColor, mateColor);
-        // TODO: ???
-        Optional<Item> optionalItem = this.world.getRecipeManager().getAllMatches(RecipeType.CRAFTING, craftingInventory_1, this.world).stream().map((typedRecipe_1) -> typedRecipe_1.craft(craftingInventory_1)).map(ItemStack::getItem).findAny();
+        DyeColor mixedColor = getMixedColor(this.world, parentColor, mateColor);
+        return mixedColor != null ? mixedColor : this.world.random.nextBoolean() ? parentColor : mateColor;
+    }
+
+    /**
+     * Looks up what the two dyes craft into, asking the recipe manager only the first time each pair comes up.
+     * Reloading datapacks replaces the recipe manager, which starts the table over.
+     *
+     * @return The mixed color, or null if the dyes don't craft into a dye
+     */
+    private static DyeColor getMixedColor(World world, DyeColor parentColor, DyeColor mateColor) {
+        RecipeManager recipeManager = world.getRecipeManager();
+        if (recipeManager != mixingRecipeManager) {
+            mixingRecipeManager = recipeManager;
+            Arrays.fill(MIXED_COLORS, UNKNOWN_MIX);
+        }
+
+        int index = parentColor.getId() * 16 + mateColor.getId();
+        if (MIXED_COLORS[index] == UNKNOWN_MIX) {
+            CraftingInventory craftingInventory_1 = createDyeMixingCraftingInventory(parentColor, mateColor);
+            Optional<Item> optionalItem = recipeManager.getAllMatches(RecipeType.CRAFTING, craftingInventory_1, world).stream().map((typedRecipe_1) -> typedRecipe_1.craft(craftingInventory_1)).map(ItemStack::getItem).findAny();
 
-        optionalItem = optionalItem.filter(DyeItem.class::isInstance);
+            MIXED_COLORS[index] = optionalItem.filter(DyeItem.class::isInstance).map(item -> (byte) ((DyeItem) item).getColor().getId()).orElse(NO_MIX);
+        }
 
-        return optionalItem.map(DyeItem.class::cast).map(DyeItem::getColor).orElseGet(() -> this.world.random.nextBoolean() ? parentColor : mateColor);
+        return MIXED_COLORS[index] == NO_MIX ? null : DyeColor.byId(MIXED_COLORS[index]);
     }
 
     @Override
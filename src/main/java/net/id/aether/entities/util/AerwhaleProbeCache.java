@@ -0,0 +1,77 @@
+package net.id.aether.entities.util;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+
+/**
+ * Remembers, per world, what aerwhales found when checking block regions on their way somewhere,
+ * and caps how many of those regions get checked against the world each tick.
+ * <br>
+ * A probe covers the box grown out to whole blocks, so every aerwhale whose box falls in the same blocks
+ * shares the answer. Answers are kept for a few seconds, so the world changing underneath is picked up soon.
+ */
+public class AerwhaleProbeCache {
+    /**
+     * How long an answer is trusted, in ticks.
+     */
+    private static final long LIFETIME = 60;
+    /**
+     * How many probes every aerwhale in the world may send to the world in one tick, combined.
+     */
+    private static final int PROBES_PER_TICK = 48;
+
+    public static final int BLOCKED = 0;
+    public static final int FREE = 1;
+    /**
+     * The probe wasn't cached and this tick's budget is spent, so ask again next tick.
+     */
+    public static final int UNKNOWN = 2;
+
+    // Packed as expiry time << 32 | width << 24 | height << 16 | depth << 8 | result
+    private final Long2LongOpenHashMap probes = new Long2LongOpenHashMap();
+    private long budgetTime = Long.MIN_VALUE;
+    private long nextPurge;
+    private int budget;
+
+    /**
+     * @return {@link #FREE} if no block that would suffocate the entity is in the blocks the box touches,
+     * {@link #BLOCKED} if there is, or {@link #UNKNOWN}
+     */
+    public int probe(World world, Entity entity, Box box) {
+        long time = world.getTime();
+        if (time != budgetTime) {
+            budgetTime = time;
+            budget = PROBES_PER_TICK;
+            if (time >= nextPurge) {
+                nextPurge = time + LIFETIME;
+                probes.long2LongEntrySet().removeIf(entry -> entry.getLongValue() >>> 32 <= time);
+            }
+        }
+
+        int minX = MathHelper.floor(box.minX);
+        int minY = MathHelper.floor(box.minY);
+        int minZ = MathHelper.floor(box.minZ);
+        int width = Math.min(MathHelper.ceil(box.maxX) - minX, 255);
+        int height = Math.min(MathHelper.ceil(box.maxY) - minY, 255);
+        int depth = Math.min(MathHelper.ceil(box.maxZ) - minZ, 255);
+        long key = BlockPos.asLong(minX, minY, minZ);
+
+        long cached = probes.get(key);
+        if (cached >>> 32 > time && (cached >>> 24 & 255) == width && (cached >>> 16 & 255) == height && (cached >>> 8 & 255) == depth) {
+            return (int) (cached & 255);
+        }
+        if (budget <= 0) {
+            return UNKNOWN;
+        }
+        budget--;
+
+        Box blocks = new Box(minX, minY, minZ, minX + width, minY + height, minZ + depth);
+        int result = world.hasBlockCollision(entity, blocks, (state, pos) -> state.shouldSuffocate(world, pos)) ? BLOCKED : FREE;
+        probes.put(key, (time + LIFETIME) << 32 | (long) width << 24 | (long) height << 16 | (long) depth << 8 | result);
+        return result;
+    }
+}
@@ -0,0 +1,186 @@
+package net.id.aether.entities.util.floatingblock;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.id.aether.entities.block.FloatingBlockEntity;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The entities around a world's floating blocks, gathered once per tick before the floating blocks are ticked.
+ * <br>
+ * When it is built, the world is asked once for every entity in the box covering all floating blocks
+ * (padded by {@link #MARGIN}), and the results are bucketed into a small uniform grid.
+ * Blocks that are part of a {@link FloatingBlockStructure} are covered by the structure's box as a whole.
+ * After that, the collision and fall damage checks of every floating block
+ * are answered from the grid instead of each asking the world again.
+ * <br>
+ * With only a few floating blocks, or floating blocks so far apart that the covering box
+ * would be mostly empty space, nothing is built and every query goes to the world directly.
+ * Queries that reach outside the covering box fall back to the world as well.
+ */
+public class FloatingBlockBroadPhase {
+    /**
+     * How far around each floating block the shared query reaches.
+     */
+    private static final double MARGIN = 2.0;
+    /**
+     * Below this many floating blocks, one query each is cheaper than building anything.
+     */
+    private static final int MIN_FLOATING_BLOCKS = 4;
+    /**
+     * How much bigger than the padded floating blocks combined the covering box may be
+     * before one shared query stops paying off.
+     */
+    private static final double MAX_SPARSENESS = 8.0;
+    /**
+     * Grid cells are 2^CELL_SHIFT blocks wide.
+     */
+    private static final int CELL_SHIFT = 2;
+    /**
+     * Entities are listed in every cell within this distance of them,
+     * so those nudged by a floating block earlier in the tick are still found.
+     */
+    private static final double SLACK = 1.0;
+
+    private final Long2ObjectOpenHashMap<ReferenceArrayList<Entity>> cells = new Long2ObjectOpenHashMap<>();
+    private final ReferenceArrayList<ReferenceArrayList<Entity>> unusedCells = new ReferenceArrayList<>();
+    private final ReferenceOpenHashSet<Entity> seen = new ReferenceOpenHashSet<>();
+    private final ReferenceOpenHashSet<FloatingBlockEntity> structureBlocks = new ReferenceOpenHashSet<>();
+    private World world;
+    private Box bounds;
+
+    public void build(World world, List<FloatingBlockEntity> floatingBlocks, FloatingBlockStructureManager structures) {
+        this.clear();
+        if (floatingBlocks.size() < MIN_FLOATING_BLOCKS) {
+            return;
+        }
+
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY, minZ = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+        double paddedVolume = 0;
+        // One box per structure, so its blocks' padding isn't counted once per block
+        for (FloatingBlockStructure structure : structures.getStructures()) {
+            if (!structure.updateBounds()) {
+                continue;
+            }
+            structure.addBlocksTo(this.structureBlocks);
+            minX = Math.min(minX, structure.getMinX() - MARGIN);
+            minY = Math.min(minY, structure.getMinY() - MARGIN);
+            minZ = Math.min(minZ, structure.getMinZ() - MARGIN);
+            maxX = Math.max(maxX, structure.getMaxX() + MARGIN);
+            maxY = Math.max(maxY, structure.getMaxY() + MARGIN);
+            maxZ = Math.max(maxZ, structure.getMaxZ() + MARGIN);
+            paddedVolume += (structure.getMaxX() - structure.getMinX() + 2 * MARGIN)
+                    * (structure.getMaxY() - structure.getMinY() + 2 * MARGIN)
+                    * (structure.getMaxZ() - structure.getMinZ() + 2 * MARGIN);
+        }
+        for (FloatingBlockEntity floatingBlock : floatingBlocks) {
+            if (this.structureBlocks.contains(floatingBlock)) {
+                continue;
+            }
+            Box box = floatingBlock.getBoundingBox();
+            minX = Math.min(minX, box.minX - MARGIN);
+            minY = Math.min(minY, box.minY - MARGIN);
+            minZ = Math.min(minZ, box.minZ - MARGIN);
+            maxX = Math.max(maxX, box.maxX + MARGIN);
+            maxY = Math.max(maxY, box.maxY + MARGIN);
+            maxZ = Math.max(maxZ, box.maxZ + MARGIN);
+            paddedVolume += (box.getXLength() + 2 * MARGIN) * (box.getYLength() + 2 * MARGIN) * (box.getZLength() + 2 * MARGIN);
+        }
+        this.structureBlocks.clear();
+        if ((maxX - minX) * (maxY - minY) * (maxZ - minZ) > paddedVolume * MAX_SPARSENESS) {
+            return;
+        }
+
+        this.world = world;
+        this.bounds = new Box(minX, minY, minZ, maxX, maxY, maxZ);
+        for (Entity entity : world.getOtherEntities(null, this.bounds)) {
+            Box box = entity.getBoundingBox().expand(SLACK);
+            int cellMinX = toCell(box.minX), cellMaxX = toCell(box.maxX);
+            int cellMinY = toCell(box.minY), cellMaxY = toCell(box.maxY);
+            int cellMinZ = toCell(box.minZ), cellMaxZ = toCell(box.maxZ);
+            for (int x = cellMinX; x <= cellMaxX; x++) {
+                for (int y = cellMinY; y <= cellMaxY; y++) {
+                    for (int z = cellMinZ; z <= cellMaxZ; z++) {
+                        long key = BlockPos.asLong(x, y, z);
+                        ReferenceArrayList<Entity> cell = this.cells.get(key);
+                        if (cell == null) {
+                            cell = this.unusedCells.isEmpty() ? new ReferenceArrayList<>() : this.unusedCells.pop();
+                            this.cells.put(key, cell);
+                        }
+                        cell.add(entity);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops everything the grid knows, so that stale entities are never handed out between ticks.
+     */
+    public void clear() {
+        for (ReferenceArrayList<Entity> cell : this.cells.values()) {
+            cell.clear();
+            this.unusedCells.push(cell);
+        }
+        this.cells.clear();
+        this.world = null;
+        this.bounds = null;
+    }
+
+    /**
+     * Same as {@link World#getOtherEntities(Entity, Box)}, but answered from the grid whenever possible.
+     */
+    public List<Entity> getOtherEntities(World world, Entity except, Box box) {
+        if (this.world != world || !this.contains(box)) {
+            return world.getOtherEntities(except, box);
+        }
+        int minX = toCell(box.minX);
+        int minY = toCell(box.minY);
+        int minZ = toCell(box.minZ);
+        int maxX = toCell(box.maxX);
+        int maxY = toCell(box.maxY);
+        int maxZ = toCell(box.maxZ);
+
+        List<Entity> result = new ArrayList<>();
+        boolean spansCells = minX != maxX || minY != maxY || minZ != maxZ;
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    ReferenceArrayList<Entity> cell = this.cells.get(BlockPos.asLong(x, y, z));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Entity entity : cell) {
+                        if (entity != except && !entity.isRemoved() && !entity.isSpectator()
+                                && entity.getBoundingBox().intersects(box)
+                                && (!spansCells || this.seen.add(entity))) {
+                            result.add(entity);
+                        }
+                    }
+                }
+            }
+        }
+        this.seen.clear();
+        return result;
+    }
+
+    // Every entity touching a box inside the bounds was part of the shared query
+    private boolean contains(Box box) {
+        return this.bounds != null
+                && box.minX >= this.bounds.minX && box.minY >= this.bounds.minY && box.minZ >= this.bounds.minZ
+                && box.maxX <= this.bounds.maxX && box.maxY <= this.bounds.maxY && box.maxZ <= this.bounds.maxZ;
+    }
+
+    private static int toCell(double coord) {
+        return MathHelper.floor(coord) >> CELL_SHIFT;
+    }
+}
@@ -0,0 +1,104 @@
+package net.id.aether.entities.util.floatingblock;
+
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.id.aether.entities.block.FloatingBlockEntity;
+import net.id.aether.world.AetherWorldExtensions;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.Box;
+import net.minecraft.world.World;
+
+import java.util.List;
+
+/**
+ * Keeps track of the {@link FloatingBlockEntity FloatingBlockEntities} and
+ * {@link FloatingBlockEntity.PostTickEntity PostTickEntities} a world is currently ticking,
+ * so that the post-tick pass only has to visit those instead of every loaded entity.
+ * <br>
+ * Entities are added and removed by the world's entity handler when it starts and stops ticking them.
+ */
+public class FloatingBlockEntityList {
+    private final ReferenceLinkedOpenHashSet<FloatingBlockEntity> floatingBlocks = new ReferenceLinkedOpenHashSet<>();
+    private final ReferenceLinkedOpenHashSet<FloatingBlockEntity.PostTickEntity> postTickEntities = new ReferenceLinkedOpenHashSet<>();
+    // Entities can be added or removed while we are ticking, so iterate over a reused copy instead.
+    private final ReferenceArrayList<FloatingBlockEntity> tickingFloatingBlocks = new ReferenceArrayList<>();
+    private final ReferenceArrayList<FloatingBlockEntity.PostTickEntity> tickingPostTickEntities = new ReferenceArrayList<>();
+    private final FloatingBlockBroadPhase broadPhase = new FloatingBlockBroadPhase();
+
+    public void add(Entity entity) {
+        if (entity instanceof FloatingBlockEntity floatingBlock) {
+            this.floatingBlocks.add(floatingBlock);
+        } else if (entity instanceof FloatingBlockEntity.PostTickEntity postTickEntity) {
+            this.postTickEntities.add(postTickEntity);
+        }
+    }
+
+    public void remove(Entity entity) {
+        if (entity instanceof FloatingBlockEntity floatingBlock) {
+            this.floatingBlocks.remove(floatingBlock);
+        } else if (entity instanceof FloatingBlockEntity.PostTickEntity postTickEntity) {
+            this.postTickEntities.remove(postTickEntity);
+        }
+    }
+
+    public boolean isEmpty() {
+        return this.floatingBlocks.isEmpty() && this.postTickEntities.isEmpty();
+    }
+
+    public int size() {
+        return this.floatingBlocks.size();
+    }
+
+    /**
+     * Same as {@link World#getOtherEntities(Entity, Box)}, but shares one broad-phase
+     * between all the floating blocks ticking this tick.
+     */
+    public List<Entity> getOtherEntities(World world, Entity except, Box box) {
+        return this.broadPhase.getOtherEntities(world, except, box);
+    }
+
+    /**
+     * @return Whether any floating block in this world overlaps the given box.
+     */
+    public boolean isCollidingWithFloatingBlock(Box box) {
+        for (FloatingBlockEntity entity : this.floatingBlocks) {
+            if (!entity.isRemoved() && entity.getBoundingBox().intersects(box)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs {@link FloatingBlockEntity#postTickEntities()} on every floating block,
+     * then lets any {@link FloatingBlockEntity.PostTickEntity} react to where the blocks moved them.
+     */
+    public void postTick(World world) {
+        if (this.isEmpty()) {
+            return;
+        }
+        this.tickingFloatingBlocks.addAll(this.floatingBlocks);
+        try {
+            if (!this.tickingFloatingBlocks.isEmpty()) {
+                this.broadPhase.build(world, this.tickingFloatingBlocks, ((AetherWorldExtensions) world).getFloatingBlockStructures());
+            }
+            for (FloatingBlockEntity entity : this.tickingFloatingBlocks) {
+                if (!entity.isRemoved()) {
+                    entity.postTickEntities();
+                }
+            }
+        } finally {
+            this.broadPhase.clear();
+            this.tickingFloatingBlocks.clear();
+        }
+
+        this.tickingPostTickEntities.addAll(this.postTickEntities);
+        try {
+            for (FloatingBlockEntity.PostTickEntity entity : this.tickingPostTickEntities) {
+                entity.postTick();
+            }
+        } finally {
+            this.tickingPostTickEntities.clear();
+        }
+    }
+}
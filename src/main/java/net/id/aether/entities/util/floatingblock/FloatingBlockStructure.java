@@ -1,16 +1,26 @@
 package net.id.aether.entities.util.floatingblock;
 
 import net.id.aether.entities.block.FloatingBlockEntity;
+import net.id.aether.world.AetherWorldExtensions;
 import net.minecraft.block.BlockState;
+import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.math.Vec3i;
 import net.minecraft.world.World;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Set;
 
 public class FloatingBlockStructure {
-    private static final ArrayList<FloatingBlockStructure> allStructures = new ArrayList<>(0);
     protected ArrayList<FloatingBlockInfoWrapper> blockInfos = new ArrayList<>(0);
+    private World world;
+    // Offsets of each block from the master, packed as x, y, z in the same order as blockInfos
+    private int[] offsets = new int[0];
+    // Smallest and largest offset on each axis, packed as minX, minY, minZ, maxX, maxY, maxZ
+    private final int[] offsetBounds = new int[6];
+    // The box covering every block, reused so updating it doesn't allocate
+    private double minX, minY, minZ, maxX, maxY, maxZ;
 
     public FloatingBlockStructure(FloatingBlockEntity entity1, FloatingBlockEntity entity2, Vec3i offset) {
         this.blockInfos.add(new FloatingBlockInfoWrapper(entity1, Vec3i.ZERO));
@@ -21,25 +31,21 @@ public class FloatingBlockStructure {
         this.blockInfos.addAll(arr);
     }
 
-    public static ArrayList<FloatingBlockStructure> getAllStructures() {
-        return allStructures;
-    }
-
     public void spawn(World world) {
         blockInfos.forEach(blockInfo -> {
             blockInfo.block.markPartOfStructure();
             world.removeBlock(blockInfo.block.getBlockPos(), false);
             world.spawnEntity(blockInfo.block);
         });
-        init();
+        init(world);
     }
 
     public void postTick() {
-        FloatingBlockInfoWrapper master = blockInfos.get(0);
+        if (this.blockInfos.isEmpty()) {
+            return;
+        }
+        this.alignToMaster();
         for (FloatingBlockInfoWrapper blockInfo : blockInfos) {
-            if (!blockInfo.equals(master)) {
-                this.alignToMaster(blockInfo);
-            }
             if (blockInfo.block.isRemoved()) {
                 World world = blockInfo.block.world;
                 BlockState state = blockInfo.block.getBlockState();
@@ -50,17 +56,82 @@ public class FloatingBlockStructure {
         }
     }
 
-    protected void alignToMaster(FloatingBlockInfoWrapper blockInfo) {
-        FloatingBlockInfoWrapper master = blockInfos.get(0);
-        Vec3d newPos = master.block.getPos().add(Vec3d.of(blockInfo.offset));
-        blockInfo.block.setPos(newPos.x, newPos.y, newPos.z);
-        blockInfo.block.setVelocity(master.block.getVelocity());
-        blockInfo.block.setDropping(master.block.isDropping());
+    /**
+     * Moves every block in the structure along with the master block (the first one).
+     */
+    protected void alignToMaster() {
+        FloatingBlockEntity master = blockInfos.get(0).block;
+        double x = master.getX();
+        double y = master.getY();
+        double z = master.getZ();
+        Vec3d velocity = master.getVelocity();
+        boolean dropping = master.isDropping();
+        int[] offsets = this.offsets;
+        for (int i = 1, j = 3; i < blockInfos.size() && j < offsets.length; i++, j += 3) {
+            FloatingBlockEntity block = blockInfos.get(i).block;
+            block.setPos(x + offsets[j], y + offsets[j + 1], z + offsets[j + 2]);
+            block.setVelocity(velocity);
+            block.setDropping(dropping);
+        }
+        this.updateBounds();
+    }
+
+    /**
+     * Moves the structure's box to where the master block is now. Calling this doesn't move any block.
+     *
+     * @return Whether the structure still has blocks, and so a box
+     */
+    boolean updateBounds() {
+        if (this.blockInfos.isEmpty()) {
+            return false;
+        }
+        Box box = this.blockInfos.get(0).block.getBoundingBox();
+        int[] bounds = this.offsetBounds;
+        this.minX = box.minX + bounds[0];
+        this.minY = box.minY + bounds[1];
+        this.minZ = box.minZ + bounds[2];
+        this.maxX = box.maxX + bounds[3];
+        this.maxY = box.maxY + bounds[4];
+        this.maxZ = box.maxZ + bounds[5];
+        return true;
+    }
+
+    double getMinX() {
+        return this.minX;
+    }
+
+    double getMinY() {
+        return this.minY;
+    }
+
+    double getMinZ() {
+        return this.minZ;
+    }
+
+    double getMaxX() {
+        return this.maxX;
+    }
+
+    double getMaxY() {
+        return this.maxY;
+    }
+
+    double getMaxZ() {
+        return this.maxZ;
+    }
+
+    /**
+     * Adds every block of this structure to the given set.
+     */
+    void addBlocksTo(Set<FloatingBlockEntity> blocks) {
+        for (FloatingBlockInfoWrapper blockInfo : this.blockInfos) {
+            blocks.add(blockInfo.block);
+        }
     }
 
     public void land(FloatingBlockInfoWrapper lander, boolean success) {
+        this.alignToMaster();
         for (FloatingBlockInfoWrapper blockInfo : blockInfos) {
-            alignToMaster(blockInfo);
             if (!blockInfo.equals(lander)) {
                 double impact = blockInfos.get(0).block.getVelocity().length();
                 if (success) {
@@ -72,11 +143,29 @@ public class FloatingBlockStructure {
             blockInfo.block.dropItem = false;
         }
         this.blockInfos.clear();
-        allStructures.remove(this);
+        if (this.world != null) {
+            ((AetherWorldExtensions) this.world).getFloatingBlockStructures().remove(this);
+        }
     }
 
-    protected void init() {
-        allStructures.add(this);
+    protected void init(World world) {
+        this.world = world;
+        this.offsets = new int[blockInfos.size() * 3];
+        Arrays.fill(this.offsetBounds, 0);
+        for (int i = 0; i < blockInfos.size(); i++) {
+            Vec3i offset = blockInfos.get(i).offset;
+            offsets[i * 3] = offset.getX();
+            offsets[i * 3 + 1] = offset.getY();
+            offsets[i * 3 + 2] = offset.getZ();
+            offsetBounds[0] = Math.min(offsetBounds[0], offset.getX());
+            offsetBounds[1] = Math.min(offsetBounds[1], offset.getY());
+            offsetBounds[2] = Math.min(offsetBounds[2], offset.getZ());
+            offsetBounds[3] = Math.max(offsetBounds[3], offset.getX());
+            offsetBounds[4] = Math.max(offsetBounds[4], offset.getY());
+            offsetBounds[5] = Math.max(offsetBounds[5], offset.getZ());
+        }
+        this.alignToMaster();
+        ((AetherWorldExtensions) world).getFloatingBlockStructures().add(this);
     }
 
     public static class FloatingBlockInfoWrapper {
@@ -0,0 +1,80 @@
+package net.id.aether.entities.util.floatingblock;
+
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+
+/**
+ * Holds the {@link FloatingBlockStructure FloatingBlockStructures} that are floating in one world.
+ * <br>
+ * Structures are tracked by identity, so adding and removing them is O(1).
+ * Structures that land, or are spawned, while the manager is ticking are queued
+ * and applied once the tick is done, which lets the tick iterate without copying.
+ * <br>
+ * Each world owns its own manager, so its structures go away together with the world.
+ */
+public class FloatingBlockStructureManager {
+    private final ReferenceLinkedOpenHashSet<FloatingBlockStructure> structures = new ReferenceLinkedOpenHashSet<>();
+    private final ReferenceArrayList<FloatingBlockStructure> pendingAdditions = new ReferenceArrayList<>();
+    private final ReferenceArrayList<FloatingBlockStructure> pendingRemovals = new ReferenceArrayList<>();
+    private boolean ticking = false;
+
+    public void add(FloatingBlockStructure structure) {
+        if (this.ticking) {
+            this.pendingAdditions.add(structure);
+        } else {
+            this.structures.add(structure);
+        }
+    }
+
+    public void remove(FloatingBlockStructure structure) {
+        if (this.ticking) {
+            this.pendingRemovals.add(structure);
+        } else {
+            this.structures.remove(structure);
+        }
+    }
+
+    public boolean contains(FloatingBlockStructure structure) {
+        return this.structures.contains(structure);
+    }
+
+    public int size() {
+        return this.structures.size();
+    }
+
+    /**
+     * @return The structures floating right now. Don't modify it.
+     */
+    ReferenceLinkedOpenHashSet<FloatingBlockStructure> getStructures() {
+        return this.structures;
+    }
+
+    public void postTick() {
+        if (this.structures.isEmpty()) {
+            return;
+        }
+        this.ticking = true;
+        try {
+            for (FloatingBlockStructure structure : this.structures) {
+                structure.postTick();
+            }
+        } finally {
+            this.ticking = false;
+            // Additions go first, so that a structure which spawned and landed in the same tick doesn't linger.
+            if (!this.pendingAdditions.isEmpty()) {
+                this.structures.addAll(this.pendingAdditions);
+                this.pendingAdditions.clear();
+            }
+            if (!this.pendingRemovals.isEmpty()) {
+                this.structures.removeAll(this.pendingRemovals);
+                this.pendingRemovals.clear();
+            }
+        }
+    }
+
+    public void clear() {
+        this.structures.clear();
+        this.pendingAdditions.clear();
+        this.pendingRemovals.clear();
+    }
+}
@@ -2,8 +2,8 @@ package net.id.aether.items.tools.bloodstone;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.id.aether.mixin.client.ClientWorldAccessor;
 import net.minecraft.client.item.TooltipContext;
-import net.minecraft.client.world.ClientWorld;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
@@ -25,7 +25,6 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 
 public abstract class BloodstoneItem extends Item {
     public BloodstoneItem(Settings settings) {
@@ -43,11 +42,9 @@ public abstract class BloodstoneItem extends Item {
     public void appendTooltip(ItemStack stack, @Nullable World world, List<Text> tooltip, TooltipContext context) {
         NbtCompound nbt = stack.getOrCreateNbt();
         if (world != null && nbt.contains("target") && nbt.getUuid("target") != null) {
-            @SuppressWarnings("unchecked")
-            var target = (Optional<LivingEntity>) (Object) StreamSupport
-                    .stream(((ClientWorld) world).getEntities().spliterator(), true)
-                    .filter(entity -> entity.isLiving() && entity.getUuid().equals(nbt.getUuid("target")))
-                    .findFirst();
+            // The client's entity lookup already indexes loaded entities by UUID
+            Entity entity = ((ClientWorldAccessor) world).callGetEntityLookup().get(nbt.getUuid("target"));
+            Optional<LivingEntity> target = entity instanceof LivingEntity livingEntity ? Optional.of(livingEntity) : Optional.empty();
             tooltip.add(((MutableText) target.map(Entity::getName).orElse(new LiteralText("???"))).formatted(Formatting.GOLD));
             tooltip.addAll(target.map(((BloodstoneItem) stack.getItem())::createTooltip).orElse(getDefaultText()));
         } else {
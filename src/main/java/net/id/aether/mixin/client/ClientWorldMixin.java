@@ -1,35 +1,45 @@
 package net.id.aether.mixin.client;
 
-import net.id.aether.entities.block.FloatingBlockEntity;
-import net.id.aether.entities.util.floatingblock.FloatingBlockStructure;
+import net.id.aether.entities.util.AerwhaleProbeCache;
+import net.id.aether.entities.util.floatingblock.FloatingBlockEntityList;
+import net.id.aether.entities.util.floatingblock.FloatingBlockStructureManager;
+import net.id.aether.world.AetherWorldExtensions;
 import net.minecraft.client.world.ClientWorld;
-import net.minecraft.world.EntityList;
-import org.spongepowered.asm.mixin.Final;
+import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(ClientWorld.class)
-public class ClientWorldMixin {
+public class ClientWorldMixin implements AetherWorldExtensions {
 
-    @Shadow
-    @Final
-    EntityList entityList;
+    @Unique
+    private final FloatingBlockEntityList floatingBlockEntities = new FloatingBlockEntityList();
+    @Unique
+    private final FloatingBlockStructureManager floatingBlockStructures = new FloatingBlockStructureManager();
+    @Unique
+    private final AerwhaleProbeCache aerwhaleProbes = new AerwhaleProbeCache();
 
     @Inject(method = "tickEntities", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/world/ClientWorld;tickBlockEntities()V"))
     void postEntityTick(CallbackInfo ci) {
-        entityList.forEach(entityObj -> {
-            if (entityObj instanceof FloatingBlockEntity entity) {
-                entity.postTickEntities();
-            } else if (entityObj instanceof FloatingBlockEntity.PostTickEntity entity) {
-                entity.postTick();
-            }
-        });
-        FloatingBlockStructure[] structures = FloatingBlockStructure.getAllStructures().toArray(new FloatingBlockStructure[0]);
-        for (FloatingBlockStructure structure : structures) {
-            structure.postTick();
-        }
+        floatingBlockEntities.postTick((World) (Object) this);
+        floatingBlockStructures.postTick();
+    }
+
+    @Override
+    public FloatingBlockEntityList getFloatingBlockEntities() {
+        return floatingBlockEntities;
+    }
+
+    @Override
+    public FloatingBlockStructureManager getFloatingBlockStructures() {
+        return floatingBlockStructures;
+    }
+
+    @Override
+    public AerwhaleProbeCache getAerwhaleProbes() {
+        return aerwhaleProbes;
     }
 }
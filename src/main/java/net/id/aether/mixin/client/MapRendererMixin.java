@@ -2,7 +2,7 @@ package net.id.aether.mixin.client;
 
 import net.id.aether.client.rendering.util.AetherMapColorUtil;
 import net.id.aether.world.dimension.AetherDimension;
-import net.minecraft.block.MapColor;
+import net.minecraft.client.texture.NativeImage;
 import net.minecraft.client.texture.NativeImageBackedTexture;
 import net.minecraft.item.map.MapState;
 import org.spongepowered.asm.mixin.Final;
@@ -22,28 +22,28 @@ public class MapRendererMixin {
     @Final
     private NativeImageBackedTexture texture;
 
-    @Inject(method = "updateTexture()V", at = @At(value = "RETURN", target = "net/minecraft/client/render/MapRenderer$MapTexture.updateTexture()V"))
+    /**
+     * Fills the texture of Aether maps from the Aether palette. Every other map is left to vanilla.
+     */
+    @Inject(method = "updateTexture()V", at = @At("HEAD"), cancellable = true)
     private void updateAetherTexture(CallbackInfo ci) {
-        boolean isAether = this.state.dimension == AetherDimension.AETHER_WORLD_KEY;
+        if (this.state.dimension != AetherDimension.AETHER_WORLD_KEY) {
+            return;
+        }
+        NativeImage image = this.texture.getImage();
         for (int int_1 = 0; int_1 < 128; ++int_1) {
             for (int int_2 = 0; int_2 < 128; ++int_2) {
                 int int_3 = int_2 + int_1 * 128;
                 int int_4 = this.state.colors[int_3] & 255;
 
                 if (int_4 / 4 == 0) {
-                    this.texture.getImage().setColor(int_2, int_1, (int_3 + int_3 / 128 & 1) * 8 + 16 << 24);
+                    image.setColor(int_2, int_1, (int_3 + int_3 / 128 & 1) * 8 + 16 << 24);
                 } else {
-                    int color;
-                    if (isAether) {
-                        color = AetherMapColorUtil.getColor(MapColor.COLORS[int_4 / 4], int_4 & 3);
-                    } else {
-                        color = MapColor.COLORS[int_4 / 4].getRenderColor(int_4 & 3);
-                    }
-
-                    this.texture.getImage().setColor(int_2, int_1, color);
+                    image.setColor(int_2, int_1, AetherMapColorUtil.getAetherColor(int_4));
                 }
             }
         }
         this.texture.upload();
+        ci.cancel();
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package net.id.aether.mixin.client;
 
+import net.id.aether.client.rendering.util.DynamicColorRebuildScheduler;
 import net.id.aether.world.dimension.AetherDimension;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.render.WorldRenderer;
@@ -8,11 +9,22 @@ import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.HeightLimitView;
 import org.objectweb.asm.Opcodes;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(WorldRenderer.class)
 public class WorldRendererMixin {
+    @Shadow
+    private ClientWorld world;
+
+    @Inject(method = "render", at = @At("HEAD"))
+    private void flushDynamicColorRebuilds(CallbackInfo ci) {
+        DynamicColorRebuildScheduler.flush((WorldRenderer) (Object) this, this.world);
+    }
+
     @Redirect(method = "renderSky", at = @At(value = "FIELD", target = "Lnet/minecraft/util/math/Vec3d;y:D", opcode = Opcodes.GETFIELD, ordinal = 1))
     private double dontRenderVoid(Vec3d vec3d) {
         return MinecraftClient.getInstance().world != null && MinecraftClient.getInstance().world.getRegistryKey() == AetherDimension.AETHER_WORLD_KEY ? Double.MAX_VALUE : vec3d.y;
@@ -2,6 +2,7 @@ package net.id.aether.mixin.client.render;
 
 import com.mojang.blaze3d.platform.GlStateManager;
 import com.mojang.blaze3d.systems.RenderSystem;
+import net.id.aether.client.rendering.cloud.CloudLayer;
 import net.id.aether.world.dimension.AetherDimension;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gl.VertexBuffer;
@@ -17,6 +18,7 @@ import org.jetbrains.annotations.NotNull;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -35,23 +37,12 @@ public final class CloudRendererMixin {
     @Shadow
     @NotNull
     private final MinecraftClient client;
-    @Shadow
-    private int lastCloudsBlockX;
-    @Shadow
-    private int lastCloudsBlockY;
-    @Shadow
-    private int lastCloudsBlockZ;
-    @Shadow
-    @NotNull
-    private Vec3d lastCloudsColor;
-    @Shadow
-    @NotNull
-    private CloudRenderMode lastCloudsRenderMode;
-    @Shadow
-    private boolean cloudsDirty;
-    @Shadow
-    @NotNull
-    private VertexBuffer cloudsBuffer;
+    @Unique
+    private final CloudLayer[] aetherCloudLayers = {
+            new CloudLayer(96, 1f, 1f),
+            new CloudLayer(32, 1.25f, -2f),
+            new CloudLayer(-128, 2f, 1.5f)
+    };
 
     public CloudRendererMixin() {
         throw new NullPointerException("null cannot be cast to non-null type net.minecraft.client.world.ClientWorld");
@@ -60,15 +51,28 @@ public final class CloudRendererMixin {
     @Inject(method = "renderClouds(Lnet/minecraft/client/util/math/MatrixStack;Lnet/minecraft/util/math/Matrix4f;FDDD)V", at = @At("HEAD"), cancellable = true)
     public void renderClouds(MatrixStack matrices, Matrix4f model, float tickDelta, double cameraX, double cameraY, double cameraZ, CallbackInfo ci) {
         if (world.getRegistryKey() == AetherDimension.AETHER_WORLD_KEY) {
-            internalCloudRender(matrices, model, tickDelta, cameraX, cameraY, cameraZ, 96, 1f, 1f);
-            internalCloudRender(matrices, model, tickDelta, cameraX, cameraY, cameraZ, 32, 1.25f, -2f);
-            internalCloudRender(matrices, model, tickDelta, cameraX, cameraY, cameraZ, -128, 2f, 1.5f);
+            for (CloudLayer layer : aetherCloudLayers) {
+                internalCloudRender(matrices, model, tickDelta, cameraX, cameraY, cameraZ, layer);
+            }
             ci.cancel();
         }
     }
 
-    // TODO: Replace this mostly copy-pasted code with some redirects or injections
-    private void internalCloudRender(MatrixStack matrices, Matrix4f model, float tickDelta, double cameraX, double cameraY, double cameraZ, float cloudOffset, float cloudScale, float speedMod) {
+    @Inject(method = "reload()V", at = @At("TAIL"))
+    private void reloadAetherClouds(CallbackInfo ci) {
+        for (CloudLayer layer : aetherCloudLayers) {
+            layer.markDirty();
+        }
+    }
+
+    @Inject(method = "close", at = @At("TAIL"))
+    private void closeAetherClouds(CallbackInfo ci) {
+        for (CloudLayer layer : aetherCloudLayers) {
+            layer.close();
+        }
+    }
+
+    private void internalCloudRender(MatrixStack matrices, Matrix4f model, float tickDelta, double cameraX, double cameraY, double cameraZ, CloudLayer layer) {
         SkyProperties properties = this.world.getSkyProperties();
         float cloudHeight = properties.getCloudsHeight();
         if (!Float.isNaN(cloudHeight)) {
@@ -77,9 +81,9 @@ public final class CloudRendererMixin {
             RenderSystem.enableDepthTest();
             RenderSystem.blendFuncSeparate(GlStateManager.SrcFactor.SRC_ALPHA, GlStateManager.DstFactor.ONE_MINUS_SRC_ALPHA, GlStateManager.SrcFactor.ONE, GlStateManager.DstFactor.ONE_MINUS_SRC_ALPHA);
             RenderSystem.depthMask(true);
-            double speed = ((this.ticks + tickDelta) * (0.03F * speedMod));
+            double speed = ((this.ticks + tickDelta) * (0.03F * layer.speed));
             double posX = (cameraX + speed) / 12.0D;
-            double posY = cloudHeight - (float) cameraY + cloudOffset;
+            double posY = cloudHeight - (float) cameraY + layer.offset;
             double posZ = cameraZ / 12.0D + 0.33000001311302185D;
             posX -= MathHelper.floor(posX / 2048.0D) * 2048;
             posZ -= MathHelper.floor(posZ / 2048.0D) * 2048;
@@ -90,25 +94,16 @@ public final class CloudRendererMixin {
             int floorX = (int) Math.floor(posX);
             int floorY = (int) Math.floor(posY / 4.0D);
             int floorZ = (int) Math.floor(posZ);
-            if (floorX != this.lastCloudsBlockX || floorY != this.lastCloudsBlockY || floorZ != this.lastCloudsBlockZ || this.client.options.getCloudRenderMode() != this.lastCloudsRenderMode || this.lastCloudsColor.squaredDistanceTo(cloudColor) > 2.0E-4D) {
-                this.lastCloudsBlockX = floorX;
-                this.lastCloudsBlockY = floorY;
-                this.lastCloudsBlockZ = floorZ;
-                this.lastCloudsColor = cloudColor;
-                this.lastCloudsRenderMode = this.client.options.getCloudRenderMode();
-                this.cloudsDirty = true;
-            }
 
-            if (this.cloudsDirty) {
-                this.cloudsDirty = false;
+            // Every layer keeps its own geometry, so they no longer invalidate each other every frame
+            if (layer.needsRebuild(floorX, floorY, floorZ, cloudColor, this.client.options.getCloudRenderMode())) {
                 Tessellator tessellator = Tessellator.getInstance();
                 BufferBuilder bufferBuilder = tessellator.getBuffer();
-                if (this.cloudsBuffer != null) this.cloudsBuffer.close();
-
-                this.cloudsBuffer = new VertexBuffer();
+                VertexBuffer buffer = new VertexBuffer();
                 this.renderClouds(bufferBuilder, posX, posY, posZ, cloudColor);
                 bufferBuilder.end();
-                this.cloudsBuffer.upload(bufferBuilder);
+                buffer.upload(bufferBuilder);
+                layer.setBuffer(buffer);
             }
 
             RenderSystem.setShader(GameRenderer::getPositionTexColorNormalShader);
@@ -116,10 +111,11 @@ public final class CloudRendererMixin {
             BackgroundRenderer.setFogBlack();
             matrices.push();
             matrices.scale(12.0F, 1.0F, 12.0F);
-            matrices.scale(cloudScale, cloudScale, cloudScale);
+            matrices.scale(layer.scale, layer.scale, layer.scale);
             matrices.translate(-adjustedX, adjustedY, -adjustedZ);
-            if (this.cloudsBuffer != null) {
-                int cloudMainIndex = this.lastCloudsRenderMode == CloudRenderMode.FANCY ? 0 : 1;
+            VertexBuffer cloudsBuffer = layer.getBuffer();
+            if (cloudsBuffer != null) {
+                int cloudMainIndex = layer.getRenderMode() == CloudRenderMode.FANCY ? 0 : 1;
 
                 for (int cloudIndex = 1; cloudMainIndex <= cloudIndex; ++cloudMainIndex) {
                     if (cloudMainIndex == 0) {
@@ -129,7 +125,7 @@ public final class CloudRendererMixin {
                     }
 
                     Shader shader = RenderSystem.getShader();
-                    this.cloudsBuffer.setShader(matrices.peek().getModel(), model, shader);
+                    cloudsBuffer.setShader(matrices.peek().getModel(), model, shader);
                 }
             }
 
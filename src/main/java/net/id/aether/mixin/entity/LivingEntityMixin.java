@@ -1,37 +1,57 @@
 package net.id.aether.mixin.entity;
 
-import dev.emi.trinkets.api.TrinketComponent;
 import dev.emi.trinkets.api.TrinketsApi;
+import net.id.aether.component.AetherComponents;
+import net.id.aether.component.ConditionManager;
 import net.id.aether.entities.passive.moa.MoaAttributes;
 import net.id.aether.entities.AetherEntityExtensions;
 import net.id.aether.entities.passive.moa.MoaEntity;
 import net.id.aether.items.tools.AetherToolMaterials;
 import net.id.aether.tag.AetherItemTags;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.EquipmentSlot;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.effect.StatusEffect;
+import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
 import net.minecraft.item.ToolItem;
+import net.minecraft.tag.ServerTagManagerHolder;
+import net.minecraft.tag.TagManager;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.ModifyVariable;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
-import java.util.Optional;
+import java.util.Map;
 
 @Mixin(LivingEntity.class)
 public abstract class LivingEntityMixin extends Entity implements AetherEntityExtensions {
     private boolean flipped = false;
     private int gravFlipTime;
 
+    @Unique
+    private static final int PARACHUTE_EQUIPPED = 1;
+
+    // Derived from what this entity is wearing, recomputed only after an equipment change or a tag reload
+    @Unique
+    private int equipmentFlags;
+    @Unique
+    private boolean equipmentFlagsDirty = true;
+    @Unique
+    private TagManager equipmentFlagsTags;
+    @Unique
+    private boolean knockbackImmune;
+
     public LivingEntityMixin(EntityType<?> type, World world) {
         super(type, world);
     }
@@ -50,29 +70,63 @@ public abstract class LivingEntityMixin extends Entity implements AetherEntityEx
     @Shadow
     public abstract boolean hasStatusEffect(StatusEffect effect);
 
-    @SuppressWarnings("ConstantConditions")
+    @Override
+    public void setKnockbackImmune(boolean knockbackImmune) {
+        this.knockbackImmune = knockbackImmune;
+    }
+
+    @Inject(method = "takeKnockback", at = @At("HEAD"), cancellable = true)
+    private void cancelKnockback(double strength, double x, double z, CallbackInfo ci) {
+        if (knockbackImmune) {
+            ci.cancel();
+        }
+    }
+
+    @Override
+    public void markEquipmentChanged() {
+        equipmentFlagsDirty = true;
+        AetherComponents.CONDITION_MANAGER_KEY.maybeGet(this).ifPresent(ConditionManager::invalidateModifiers);
+    }
+
+    @Unique
+    private int getEquipmentFlags() {
+        TagManager tags = ServerTagManagerHolder.getTagManager();
+        if (equipmentFlagsDirty || equipmentFlagsTags != tags) {
+            equipmentFlagsDirty = false;
+            equipmentFlagsTags = tags;
+            equipmentFlags = TrinketsApi.getTrinketComponent((LivingEntity) (Object) this)
+                    .map(component -> component.isEquipped(stack -> stack.isIn(AetherItemTags.PARACHUTES)) ? PARACHUTE_EQUIPPED : 0)
+                    .orElse(0);
+        }
+        return equipmentFlags;
+    }
+
     @ModifyVariable(method = "travel", at = @At(value = "INVOKE", ordinal = 0, target = "Lnet/minecraft/entity/LivingEntity;isTouchingWater()Z"))
     private double changeGravity(double gravity) {
-        LivingEntity entity = (LivingEntity) (Object) this;
-        Optional<TrinketComponent> componentOptional = TrinketsApi.getTrinketComponent(entity);
-
-        if (componentOptional.isPresent()) {
-            // Get parachutes from trinket slots
-            for (Item item : AetherItemTags.PARACHUTES.values()) {
-                if (componentOptional.get().isEquipped(item)) {
-                    boolean isFalling = this.getVelocity().y <= 0.0D;
-                    if (isFalling && !this.hasStatusEffect(StatusEffects.SLOW_FALLING) && !isTouchingWater() && !isSneaking()) {
-                        gravity -= 0.07;
-                        this.fallDistance = 0;
-                    }
-                    break;
-                }
+        if ((getEquipmentFlags() & PARACHUTE_EQUIPPED) != 0) {
+            boolean isFalling = this.getVelocity().y <= 0.0D;
+            if (isFalling && !this.hasStatusEffect(StatusEffects.SLOW_FALLING) && !isTouchingWater() && !isSneaking()) {
+                gravity -= 0.07;
+                this.fallDistance = 0;
             }
         }
 
         return gravity;
     }
 
+    @Inject(method = "onEquipStack", at = @At("HEAD"))
+    private void onEquipStack(ItemStack stack, CallbackInfo ci) {
+        markEquipmentChanged();
+    }
+
+    // The server compares every equipment slot, hands included, once per tick anyway; this piggybacks on that
+    @Inject(method = "getEquipmentChanges", at = @At("RETURN"))
+    private void onEquipmentChanges(CallbackInfoReturnable<Map<EquipmentSlot, ItemStack>> cir) {
+        if (cir.getReturnValue() != null) {
+            markEquipmentChanged();
+        }
+    }
+
     @Inject(method = "damage", at = @At("RETURN"))
     private void onDamage(DamageSource source, float amount, CallbackInfoReturnable<Boolean> cir) {
         Entity attacker = source.getAttacker();
@@ -99,6 +153,18 @@ public abstract class LivingEntityMixin extends Entity implements AetherEntityEx
         }
     }
 
+    @Inject(method = {"onStatusEffectApplied", "onStatusEffectUpgraded", "onStatusEffectRemoved", "readCustomDataFromNbt"}, at = @At("TAIL"))
+    private void invalidateConditionModifiers(CallbackInfo ci) {
+        AetherComponents.CONDITION_MANAGER_KEY.maybeGet(this).ifPresent(ConditionManager::invalidateModifiers);
+    }
+
+    @Inject(method = "removeStatusEffectInternal", at = @At("RETURN"))
+    private void invalidateConditionModifiersOnRemove(StatusEffect type, CallbackInfoReturnable<StatusEffectInstance> cir) {
+        if (cir.getReturnValue() != null) {
+            AetherComponents.CONDITION_MANAGER_KEY.maybeGet(this).ifPresent(ConditionManager::invalidateModifiers);
+        }
+    }
+
     @SuppressWarnings("ConstantConditions")
     @Inject(method = "getMaxHealth", at = @At("HEAD"), cancellable = true)
     private void getMoaMaxHealth(CallbackInfoReturnable<Float> cir) {
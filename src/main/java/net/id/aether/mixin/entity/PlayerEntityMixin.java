@@ -49,6 +49,16 @@ public abstract class PlayerEntityMixin extends LivingEntity implements AetherEn
         }
     }
 
+    /**
+     * Players compare their selected item against the last one every tick, on both sides,
+     * and reset their attack cooldown when it changed. That makes it the hand-slot change hook.
+     * Attacking resets the cooldown too, which only costs an extra recollect.
+     */
+    @Inject(method = "resetLastAttackedTicks", at = @At("HEAD"))
+    private void onSelectedItemChanged(CallbackInfo ci) {
+        markEquipmentChanged();
+    }
+
     @Inject(method = "onDeath", at = @At("HEAD"), cancellable = true)
     public void onDeath(DamageSource source, CallbackInfo ci) {
     }
@@ -1,11 +1,9 @@
 package net.id.aether.mixin.item;
 
-import com.google.common.collect.Iterables;
-import com.google.common.collect.LinkedHashMultiset;
-import com.google.common.collect.Multiset;
-import com.google.common.collect.Multisets;
 import net.id.aether.util.MapColorCreator;
+import net.id.aether.world.AetherChunkExtensions;
 import net.id.aether.world.dimension.AetherDimension;
+import net.id.aether.world.map.MapColumnSummaries;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.MapColor;
@@ -27,8 +25,13 @@ import org.spongepowered.asm.mixin.Unique;
 @Mixin(FilledMapItem.class)
 public abstract class FilledMapMixin {
 
+    // A histogram of map color ids, reused for every pixel
     @Unique
-    private final MapColor AETHER_BACKGROUND = MapColorCreator.createMapColor(62, 0xe3fffd);
+    private final int[] colorCounts = new int[64];
+    @Unique
+    private final int[] colorOrder = new int[64];
+    @Unique
+    private int colorKinds;
 
     @Shadow
     protected abstract BlockState getFluidStateIfVisible(World world, BlockState state, BlockPos pos);
@@ -66,7 +69,6 @@ public abstract class FilledMapMixin {
                             boolean bl2 = q * q + r * r > (n - 2) * (n - 2);
                             int s = (j / i + o - 64) * i;
                             int t = (k / i + p - 64) * i;
-                            Multiset<MapColor> multiset = LinkedHashMultiset.create();
                             WorldChunk worldChunk = world.getWorldChunk(new BlockPos(s, 0, t));
                             if (!worldChunk.isEmpty()) {
                                 ChunkPos chunkPos = worldChunk.getPos();
@@ -78,47 +80,28 @@ public abstract class FilledMapMixin {
                                     int x = s + t * 231871;
                                     x = x * x * 31287121 + x * 11;
                                     if ((x >> 20 & 1) == 0) {
-                                        multiset.add(Blocks.DIRT.getDefaultState().getMapColor(world, BlockPos.ORIGIN), 10);
+                                        countColor(Blocks.DIRT.getDefaultState().getMapColor(world, BlockPos.ORIGIN).id, 10);
                                     } else {
-                                        multiset.add(Blocks.STONE.getDefaultState().getMapColor(world, BlockPos.ORIGIN), 100);
+                                        countColor(Blocks.STONE.getDefaultState().getMapColor(world, BlockPos.ORIGIN).id, 100);
                                     }
 
                                     e = 100.0D;
                                 } else {
-                                    BlockPos.Mutable mutable = new BlockPos.Mutable();
-                                    BlockPos.Mutable mutable2 = new BlockPos.Mutable();
+                                    MapColumnSummaries summaries = ((AetherChunkExtensions) worldChunk).getMapColumnSummaries();
 
                                     for (int y = 0; y < i; ++y) {
                                         for (int z = 0; z < i; ++z) {
-                                            int aa = worldChunk.sampleHeightmap(Heightmap.Type.WORLD_SURFACE, y + u, z + v) + 1;
-                                            BlockState blockState;
-                                            if (aa <= world.getBottomY() + 1) {
-                                                blockState = Blocks.BEDROCK.getDefaultState();
-                                            } else {
-                                                do {
-                                                    --aa;
-                                                    mutable.set(chunkPos.getStartX() + y + u, aa, chunkPos.getStartZ() + z + v);
-                                                    blockState = worldChunk.getBlockState(mutable);
-                                                } while (blockState.getMapColor(world, mutable) == MapColor.CLEAR && aa > world.getBottomY());
-
-                                                if (aa > world.getBottomY() && !blockState.getFluidState().isEmpty()) {
-                                                    int ab = aa - 1;
-                                                    mutable2.set(mutable);
-
-                                                    BlockState blockState2;
-                                                    do {
-                                                        mutable2.setY(ab--);
-                                                        blockState2 = worldChunk.getBlockState(mutable2);
-                                                        ++w;
-                                                    } while (ab > world.getBottomY() && !blockState2.getFluidState().isEmpty());
-
-                                                    blockState = this.getFluidStateIfVisible(world, blockState, mutable);
-                                                }
+                                            long summary = summaries.get(y + u, z + v);
+                                            if (summary == 0) {
+                                                summary = this.sampleColumn(world, worldChunk, chunkPos.getStartX() + y + u, chunkPos.getStartZ() + z + v);
+                                                summaries.set(y + u, z + v, summary);
                                             }
 
+                                            int aa = MapColumnSummaries.getHeight(summary);
+                                            w += MapColumnSummaries.getFluidDepth(summary);
                                             state.removeBanner(world, chunkPos.getStartX() + y + u, chunkPos.getStartZ() + z + v);
                                             e += (double) aa / (double) (i * i);
-                                            multiset.add((aa <= world.getBottomY() + 1 && world.getRegistryKey().equals(AetherDimension.AETHER_WORLD_KEY)) ? AETHER_BACKGROUND : blockState.getMapColor(world, mutable));
+                                            countColor(MapColumnSummaries.getColorId(summary), 1);
                                         }
                                     }
                                 }
@@ -134,8 +117,8 @@ public abstract class FilledMapMixin {
                                     ac = 0;
                                 }
 
-                                MapColor mapColor = Iterables.getFirst(Multisets.copyHighestCountFirst(multiset), MapColor.CLEAR);
-                                if (mapColor == MapColor.WATER_BLUE) {
+                                int mapColor = takeMostCommonColor();
+                                if (mapColor == MapColor.WATER_BLUE.id) {
                                     f = (double) w * 0.1D + (double) (o + p & 1) * 0.2D;
                                     ac = 1;
                                     if (f < 0.5D) {
@@ -149,7 +132,7 @@ public abstract class FilledMapMixin {
 
                                 d = e;
                                 if (p >= 0 && q * q + r * r < n * n && (!bl2 || (o + p & 1) != 0)) {
-                                    bl |= state.putColor(o, p, (byte) (mapColor.id * 4 + ac));
+                                    bl |= state.putColor(o, p, (byte) (mapColor * 4 + ac));
                                 }
                             }
                         }
@@ -159,4 +142,68 @@ public abstract class FilledMapMixin {
 
         }
     }
+
+    /**
+     * Walks a column down from its surface like vanilla does, and packs what it found.
+     */
+    @Unique
+    private long sampleColumn(World world, WorldChunk worldChunk, int blockX, int blockZ) {
+        BlockPos.Mutable mutable = new BlockPos.Mutable(blockX, 0, blockZ);
+        int w = 0;
+        int aa = worldChunk.sampleHeightmap(Heightmap.Type.WORLD_SURFACE, blockX & 15, blockZ & 15) + 1;
+        BlockState blockState;
+        if (aa <= world.getBottomY() + 1) {
+            blockState = Blocks.BEDROCK.getDefaultState();
+        } else {
+            do {
+                --aa;
+                mutable.setY(aa);
+                blockState = worldChunk.getBlockState(mutable);
+            } while (blockState.getMapColor(world, mutable) == MapColor.CLEAR && aa > world.getBottomY());
+
+            if (aa > world.getBottomY() && !blockState.getFluidState().isEmpty()) {
+                int ab = aa - 1;
+                BlockPos.Mutable mutable2 = mutable.mutableCopy();
+
+                BlockState blockState2;
+                do {
+                    mutable2.setY(ab--);
+                    blockState2 = worldChunk.getBlockState(mutable2);
+                    ++w;
+                } while (ab > world.getBottomY() && !blockState2.getFluidState().isEmpty());
+
+                blockState = this.getFluidStateIfVisible(world, blockState, mutable);
+            }
+        }
+
+        MapColor color = (aa <= world.getBottomY() + 1 && world.getRegistryKey().equals(AetherDimension.AETHER_WORLD_KEY)) ? MapColorCreator.AETHER_BACKGROUND : blockState.getMapColor(world, mutable);
+        return MapColumnSummaries.pack(aa, w, color.id);
+    }
+
+    @Unique
+    private void countColor(int colorId, int count) {
+        if (colorCounts[colorId] == 0) {
+            colorOrder[colorKinds++] = colorId;
+        }
+        colorCounts[colorId] += count;
+    }
+
+    /**
+     * Picks the color counted the most since the last call, ties going to the one counted first, and starts over.
+     */
+    @Unique
+    private int takeMostCommonColor() {
+        int best = MapColor.CLEAR.id;
+        int bestCount = 0;
+        for (int i = 0; i < colorKinds; i++) {
+            int colorId = colorOrder[i];
+            if (colorCounts[colorId] > bestCount) {
+                best = colorId;
+                bestCount = colorCounts[colorId];
+            }
+            colorCounts[colorId] = 0;
+        }
+        colorKinds = 0;
+        return best;
+    }
 }
@@ -1,7 +1,10 @@
 package net.id.aether.mixin.item;
 
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtCompound;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
@@ -16,14 +19,36 @@ public abstract class ItemStackMixin {
         return ((AetherItemExtensions) this.getItem()).getCustomRarityFormatting();
     }*/
 
+    @Unique
+    private static final String STACKABLE_VARIANT = "stackableVariant";
+
     @Inject(method = "canCombine", at = @At("TAIL"), cancellable = true)
     private static void combineStackableVariants(ItemStack stack, ItemStack otherStack, CallbackInfoReturnable<Boolean> cir) {
         if (!cir.getReturnValueZ() && stack.isOf(otherStack.getItem())) {
-            ItemStack stackComparable = stack.copy();
-            ItemStack otherStackComparable = otherStack.copy();
-            stackComparable.getOrCreateNbt().remove("stackableVariant");
-            otherStackComparable.getOrCreateNbt().remove("stackableVariant");
-            cir.setReturnValue(ItemStack.areNbtEqual(stackComparable, otherStackComparable));
+            cir.setReturnValue(areNbtEqualIgnoringVariant(stack.getNbt(), otherStack.getNbt()));
+        }
+    }
+
+    /**
+     * Compares two stacks' NBT as if neither had a stackable variant, without copying or touching either.
+     * A stack without NBT counts as having an empty compound.
+     */
+    @Unique
+    private static boolean areNbtEqualIgnoringVariant(@Nullable NbtCompound nbt, @Nullable NbtCompound otherNbt) {
+        int size = nbt == null ? 0 : nbt.getSize() - (nbt.contains(STACKABLE_VARIANT) ? 1 : 0);
+        int otherSize = otherNbt == null ? 0 : otherNbt.getSize() - (otherNbt.contains(STACKABLE_VARIANT) ? 1 : 0);
+        if (size != otherSize) {
+            return false;
+        }
+        if (size == 0) {
+            return true;
+        }
+        // Same number of keys, so every key of one being equal in the other means they match
+        for (String key : nbt.getKeys()) {
+            if (!key.equals(STACKABLE_VARIANT) && !nbt.get(key).equals(otherNbt.get(key))) {
+                return false;
+            }
         }
+        return true;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package net.id.aether.mixin.item;
+
+import net.id.aether.entities.AetherEntityExtensions;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.ItemStack;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(PlayerInventory.class)
+public abstract class PlayerInventoryMixin {
+
+    @Shadow
+    @Final
+    public PlayerEntity player;
+
+    /**
+     * Tells the player that a slot changed. The client receives its own armor and hands through setStack,
+     * the server already notices through LivingEntity#getEquipmentChanges
+     */
+
+    @Inject(method = "setStack", at = @At("TAIL"))
+    private void setStack(int slot, ItemStack stack, CallbackInfo ci) {
+        markPlayerEquipmentChanged();
+    }
+
+    @Inject(method = {"removeStack(I)Lnet/minecraft/item/ItemStack;", "removeStack(II)Lnet/minecraft/item/ItemStack;"}, at = @At("TAIL"))
+    private void removeStack(CallbackInfoReturnable<ItemStack> cir) {
+        markPlayerEquipmentChanged();
+    }
+
+    @Unique
+    private void markPlayerEquipmentChanged() {
+        ((AetherEntityExtensions) player).markEquipmentChanged();
+    }
+}
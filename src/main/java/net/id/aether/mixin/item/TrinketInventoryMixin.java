@@ -0,0 +1,41 @@
+package net.id.aether.mixin.item;
+
+import dev.emi.trinkets.api.TrinketInventory;
+import net.id.aether.entities.AetherEntityExtensions;
+import net.minecraft.item.ItemStack;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(TrinketInventory.class)
+public abstract class TrinketInventoryMixin {
+
+    /**
+     * Tells the owner that its trinkets changed, on both sides: the client receives its trinkets through setStack too
+     */
+
+    @Inject(method = "setStack", at = @At("TAIL"))
+    private void setStack(int slot, ItemStack stack, CallbackInfo ci) {
+        markOwnerEquipmentChanged();
+    }
+
+    @Inject(method = {"removeStack(I)Lnet/minecraft/item/ItemStack;", "removeStack(II)Lnet/minecraft/item/ItemStack;"}, at = @At("TAIL"))
+    private void removeStack(CallbackInfoReturnable<ItemStack> cir) {
+        markOwnerEquipmentChanged();
+    }
+
+    @Inject(method = "clear", at = @At("TAIL"))
+    private void clear(CallbackInfo ci) {
+        markOwnerEquipmentChanged();
+    }
+
+    @Unique
+    private void markOwnerEquipmentChanged() {
+        if (((TrinketInventory) (Object) this).getComponent().getEntity() instanceof AetherEntityExtensions entity) {
+            entity.markEquipmentChanged();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package net.id.aether.mixin.server;
+
+import net.id.aether.world.AetherWorldExtensions;
+import net.minecraft.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(targets = "net.minecraft.server.world.ServerWorld$ServerEntityHandler")
+public class ServerEntityHandlerMixin {
+
+    /**
+     * Keeps the world's floating block list in sync with the entities it actually ticks
+     */
+
+    @Inject(method = "startTicking(Lnet/minecraft/entity/Entity;)V", at = @At("TAIL"))
+    void startTicking(Entity entity, CallbackInfo ci) {
+        ((AetherWorldExtensions) entity.world).getFloatingBlockEntities().add(entity);
+    }
+
+    @Inject(method = "stopTicking(Lnet/minecraft/entity/Entity;)V", at = @At("TAIL"))
+    void stopTicking(Entity entity, CallbackInfo ci) {
+        ((AetherWorldExtensions) entity.world).getFloatingBlockEntities().remove(entity);
+    }
+}
@@ -1,7 +1,6 @@
 package net.id.aether.mixin.server;
 
-import net.id.aether.entities.block.FloatingBlockEntity;
-import net.minecraft.entity.Entity;
+import net.id.aether.world.AetherWorldExtensions;
 import net.minecraft.server.network.ServerPlayNetworkHandler;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.math.Box;
@@ -12,8 +11,6 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
-import java.util.List;
-
 @Mixin(ServerPlayNetworkHandler.class)
 public class ServerPlayNetworkHandlerMixin {
 
@@ -27,11 +24,8 @@ public class ServerPlayNetworkHandlerMixin {
     @Inject(method = "isPlayerNotCollidingWithBlocks", at = @At("RETURN"), cancellable = true)
     void isPlayerNotCollidingWithBlocks(WorldView worldView, Box box, CallbackInfoReturnable<Boolean> cir) {
         if (cir.getReturnValue()) {
-            List<Entity> list = player.world.getOtherEntities(player, player.getBoundingBox());
-            for (Entity entity : list) {
-                if (entity instanceof FloatingBlockEntity) {
-                    cir.setReturnValue(false);
-                }
+            if (((AetherWorldExtensions) player.world).getFloatingBlockEntities().isCollidingWithFloatingBlock(player.getBoundingBox())) {
+                cir.setReturnValue(false);
             }
         }
     }
@@ -1,13 +1,14 @@
 package net.id.aether.mixin.server;
 
-import net.id.aether.Aether;
-import net.id.aether.entities.block.FloatingBlockEntity;
-import net.id.aether.entities.util.floatingblock.FloatingBlockStructure;
+import net.id.aether.entities.util.AerwhaleProbeCache;
+import net.id.aether.entities.util.floatingblock.FloatingBlockEntityList;
+import net.id.aether.entities.util.floatingblock.FloatingBlockStructureManager;
+import net.id.aether.world.AetherWorldExtensions;
 import net.minecraft.server.world.ServerWorld;
-import net.minecraft.world.EntityList;
-import org.spongepowered.asm.mixin.Final;
+import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -15,28 +16,37 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import java.util.function.BooleanSupplier;
 
 @Mixin(ServerWorld.class)
-public class ServerWorldMixin {
+public class ServerWorldMixin implements AetherWorldExtensions {
 
-    @Shadow
-    @Final
-    EntityList entityList;
+    @Unique
+    private final FloatingBlockEntityList floatingBlockEntities = new FloatingBlockEntityList();
+    @Unique
+    private final FloatingBlockStructureManager floatingBlockStructures = new FloatingBlockStructureManager();
+    @Unique
+    private final AerwhaleProbeCache aerwhaleProbes = new AerwhaleProbeCache();
     @Shadow
     private int idleTimeout;
 
     @Inject(method = "tick", at = @At(value = "RETURN"))
     void postEntityTick(BooleanSupplier shouldKeepTicking, CallbackInfo ci) {
         if (this.idleTimeout < 300) {
-            entityList.forEach(entityObj -> {
-                if (entityObj instanceof FloatingBlockEntity entity) {
-                    entity.postTickEntities();
-                } else if (entityObj == null) {
-                    Aether.LOG.error("Started checking null entities in ServerWorldMixin::postEntityTick");
-                }
-            });
-            FloatingBlockStructure[] structures = FloatingBlockStructure.getAllStructures().toArray(new FloatingBlockStructure[0]);
-            for (FloatingBlockStructure structure : structures) {
-                structure.postTick();
-            }
+            floatingBlockEntities.postTick((World) (Object) this);
+            floatingBlockStructures.postTick();
         }
     }
+
+    @Override
+    public FloatingBlockEntityList getFloatingBlockEntities() {
+        return floatingBlockEntities;
+    }
+
+    @Override
+    public FloatingBlockStructureManager getFloatingBlockStructures() {
+        return floatingBlockStructures;
+    }
+
+    @Override
+    public AerwhaleProbeCache getAerwhaleProbes() {
+        return aerwhaleProbes;
+    }
 }
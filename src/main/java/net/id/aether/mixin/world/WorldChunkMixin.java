@@ -0,0 +1,37 @@
+package net.id.aether.mixin.world;
+
+import net.id.aether.world.AetherChunkExtensions;
+import net.id.aether.world.map.MapColumnSummaries;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.WorldChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(WorldChunk.class)
+public class WorldChunkMixin implements AetherChunkExtensions {
+
+    @Unique
+    private MapColumnSummaries mapColumnSummaries;
+
+    @Override
+    public MapColumnSummaries getMapColumnSummaries() {
+        if (mapColumnSummaries == null) {
+            mapColumnSummaries = new MapColumnSummaries();
+        }
+        return mapColumnSummaries;
+    }
+
+    /**
+     * Anything a map sees in a column only changes when a block in that column does
+     */
+    @Inject(method = "setBlockState", at = @At("RETURN"))
+    private void invalidateMapColumn(BlockPos pos, BlockState state, boolean moved, CallbackInfoReturnable<BlockState> cir) {
+        if (mapColumnSummaries != null && cir.getReturnValue() != null) {
+            mapColumnSummaries.invalidate(pos.getX() & 15, pos.getZ() & 15);
+        }
+    }
+}
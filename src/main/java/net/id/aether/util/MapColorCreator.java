@@ -15,6 +15,9 @@ public class MapColorCreator {
         CONSTRUCTOR.setAccessible(true);
     }
 
+    // Shown for the void below Aether islands. Creating it adds it to MapColor.COLORS
+    public static final MapColor AETHER_BACKGROUND = createMapColor(62, 0xe3fffd);
+
     public static MapColor createMapColor(int id, int color) {
         try {
             return CONSTRUCTOR.newInstance(id, color);
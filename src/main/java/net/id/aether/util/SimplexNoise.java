@@ -18,9 +18,10 @@ package net.id.aether.util;
  */
 
 public class SimplexNoise {  // Simplex noise in 2D, 3D and 4D
-    private static Grad grad3[] = {new Grad(1, 1, 0), new Grad(-1, 1, 0), new Grad(1, -1, 0), new Grad(-1, -1, 0),
-            new Grad(1, 0, 1), new Grad(-1, 0, 1), new Grad(1, 0, -1), new Grad(-1, 0, -1),
-            new Grad(0, 1, 1), new Grad(0, -1, 1), new Grad(0, 1, -1), new Grad(0, -1, -1)};
+    // Gradients for 3D, split into one array per axis so sampling doesn't have to chase object references
+    private static final float[] GRAD_X = {1, -1, 1, -1, 1, -1, 1, -1, 0, 0, 0, 0};
+    private static final float[] GRAD_Y = {1, 1, -1, -1, 0, 0, 0, 0, 1, -1, 1, -1};
+    private static final float[] GRAD_Z = {0, 0, 0, 0, 1, 1, -1, -1, 1, 1, -1, -1};
 
     private static short p[] = {151, 160, 137, 91, 90, 15,
             131, 13, 201, 95, 96, 53, 194, 233, 7, 225, 140, 36, 103, 30, 69, 142, 8, 99, 37, 240, 21, 10, 23,
@@ -57,8 +58,8 @@ public class SimplexNoise {  // Simplex noise in 2D, 3D and 4D
         return x < xi ? xi - 1 : xi;
     }
 
-    private static float dot(Grad g, float x, float y, float z) {
-        return g.x * x + g.y * y + g.z * z;
+    private static float dot(int gi, float x, float y, float z) {
+        return GRAD_X[gi] * x + GRAD_Y[gi] * y + GRAD_Z[gi] * z;
     }
 
     // 3D simplex noise
@@ -157,40 +158,139 @@ public class SimplexNoise {  // Simplex noise in 2D, 3D and 4D
         if (t0 < 0) n0 = 0.0f;
         else {
             t0 *= t0;
-            n0 = t0 * t0 * dot(grad3[gi0], x0, y0, z0);
+            n0 = t0 * t0 * dot(gi0, x0, y0, z0);
         }
         float t1 = 0.6f - x1 * x1 - y1 * y1 - z1 * z1;
         if (t1 < 0) n1 = 0.0f;
         else {
             t1 *= t1;
-            n1 = t1 * t1 * dot(grad3[gi1], x1, y1, z1);
+            n1 = t1 * t1 * dot(gi1, x1, y1, z1);
         }
         float t2 = 0.6f - x2 * x2 - y2 * y2 - z2 * z2;
         if (t2 < 0) n2 = 0.0f;
         else {
             t2 *= t2;
-            n2 = t2 * t2 * dot(grad3[gi2], x2, y2, z2);
+            n2 = t2 * t2 * dot(gi2, x2, y2, z2);
         }
         float t3 = 0.6f - x3 * x3 - y3 * y3 - z3 * z3;
         if (t3 < 0) n3 = 0.0f;
         else {
             t3 *= t3;
-            n3 = t3 * t3 * dot(grad3[gi3], x3, y3, z3);
+            n3 = t3 * t3 * dot(gi3, x3, y3, z3);
         }
         // Add contributions from each corner to get the final noise value.
         // The result is scaled to stay just inside [-1,1]
         return 32.0f * (n0 + n1 + n2 + n3);
     }
 
-    // Inner class to speed upp gradient computations
-    // (In Java, array access is a lot slower than member access)
-    private static class Grad {
-        float x, y, z;
+    /**
+     * Samples {@link #noise(float, float, float)} over a regular grid, much faster than one call per point.
+     * <br>
+     * Point {@code (x, y, z)} of the grid is at {@code (originX + x * stepX, originY + y * stepY, originZ + z * stepZ)}
+     * and its sample is stored at {@code out[offset + (y * sizeZ + z) * sizeX + x]}, the same order as a chunk section.
+     * The samples are exactly what the scalar method returns for those coordinates,
+     * except that a sample of zero may come back as {@code -0.0f} where the scalar method returns {@code 0.0f}.
+     */
+    public static void noise(float[] out, int offset, float originX, float originY, float originZ, float stepX, float stepY, float stepZ, int sizeX, int sizeY, int sizeZ) {
+        Scratch scratch = SCRATCH.get().ensureCapacity(sizeX);
+        int index = offset;
+        for (int y = 0; y < sizeY; y++) {
+            float yin = originY + y * stepY;
+            for (int z = 0; z < sizeZ; z++) {
+                float zin = originZ + z * stepZ;
+                prepareRow(scratch, originX, stepX, yin, zin, sizeX);
+                sumRow(scratch, out, index, sizeX);
+                index += sizeX;
+            }
+        }
+    }
+
+    /**
+     * Works out the simplex, gradients and falloff of every corner for one row of the grid.
+     * This is the part that needs table lookups, so it is kept apart from {@link #sumRow}.
+     */
+    private static void prepareRow(Scratch scratch, float originX, float stepX, float yin, float zin, int sizeX) {
+        float[] t = scratch.falloff;
+        float[] d = scratch.dot;
+        for (int n = 0; n < sizeX; n++) {
+            float xin = originX + n * stepX;
+            float s = (xin + yin + zin) * F3;
+            int i = fastfloor(xin + s);
+            int j = fastfloor(yin + s);
+            int k = fastfloor(zin + s);
+            float u = (i + j + k) * G3;
+            float x0 = xin - (i - u);
+            float y0 = yin - (j - u);
+            float z0 = zin - (k - u);
+            // Same corner order as the scalar version, without branching on it
+            boolean xy = x0 >= y0;
+            boolean yz = y0 >= z0;
+            boolean xz = x0 >= z0;
+            int i1 = xy & xz ? 1 : 0;
+            int k1 = !yz & !xz ? 1 : 0;
+            int j1 = 1 - i1 - k1;
+            int i2 = xy | xz ? 1 : 0;
+            int k2 = yz & xz ? 0 : 1;
+            int j2 = 2 - i2 - k2;
+
+            float x1 = x0 - i1 + G3;
+            float y1 = y0 - j1 + G3;
+            float z1 = z0 - k1 + G3;
+            float x2 = x0 - i2 + 2.0f * G3;
+            float y2 = y0 - j2 + 2.0f * G3;
+            float z2 = z0 - k2 + 2.0f * G3;
+            float x3 = x0 - 1.0f + 3.0f * G3;
+            float y3 = y0 - 1.0f + 3.0f * G3;
+            float z3 = z0 - 1.0f + 3.0f * G3;
+            int ii = i & 255;
+            int jj = j & 255;
+            int kk = k & 255;
+            int corner = n << 2;
+            t[corner] = 0.6f - x0 * x0 - y0 * y0 - z0 * z0;
+            t[corner + 1] = 0.6f - x1 * x1 - y1 * y1 - z1 * z1;
+            t[corner + 2] = 0.6f - x2 * x2 - y2 * y2 - z2 * z2;
+            t[corner + 3] = 0.6f - x3 * x3 - y3 * y3 - z3 * z3;
+            d[corner] = dot(permMod12[ii + perm[jj + perm[kk]]], x0, y0, z0);
+            d[corner + 1] = dot(permMod12[ii + i1 + perm[jj + j1 + perm[kk + k1]]], x1, y1, z1);
+            d[corner + 2] = dot(permMod12[ii + i2 + perm[jj + j2 + perm[kk + k2]]], x2, y2, z2);
+            d[corner + 3] = dot(permMod12[ii + 1 + perm[jj + 1 + perm[kk + 1]]], x3, y3, z3);
+        }
+    }
+
+    /**
+     * Adds up the corners of one row. Straight-line float math over plain arrays, so the JIT can vectorize it.
+     */
+    private static void sumRow(Scratch scratch, float[] out, int index, int sizeX) {
+        float[] t = scratch.falloff;
+        float[] d = scratch.dot;
+        for (int n = 0; n < sizeX; n++) {
+            int corner = n << 2;
+            // Corners out of reach have a negative falloff and contribute nothing
+            float t0 = Math.max(t[corner], 0);
+            float t1 = Math.max(t[corner + 1], 0);
+            float t2 = Math.max(t[corner + 2], 0);
+            float t3 = Math.max(t[corner + 3], 0);
+            t0 *= t0;
+            t1 *= t1;
+            t2 *= t2;
+            t3 *= t3;
+            out[index + n] = 32.0f * (t0 * t0 * d[corner] + t1 * t1 * d[corner + 1] + t2 * t2 * d[corner + 2] + t3 * t3 * d[corner + 3]);
+        }
+    }
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    // One row of per-corner values, four corners per point
+    private static final class Scratch {
+        private float[] falloff = new float[64];
+        private float[] dot = new float[64];
 
-        Grad(float x, float y, float z) {
-            this.x = x;
-            this.y = y;
-            this.z = z;
+        private Scratch ensureCapacity(int points) {
+            if (this.falloff.length < points << 2) {
+                this.falloff = new float[points << 2];
+                this.dot = new float[points << 2];
+            }
+            return this;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+package net.id.aether.world;
+
+import net.id.aether.world.map.MapColumnSummaries;
+
+/**
+ * Per-chunk state that the Aether attaches to {@code WorldChunk}.
+ * Cast a chunk to this interface to get at it.
+ */
+public interface AetherChunkExtensions {
+    /**
+     * Creates the summaries the first time a map looks at this chunk.
+     */
+    MapColumnSummaries getMapColumnSummaries();
+}
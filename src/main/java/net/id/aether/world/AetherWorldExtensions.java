@@ -0,0 +1,17 @@
+package net.id.aether.world;
+
+import net.id.aether.entities.util.AerwhaleProbeCache;
+import net.id.aether.entities.util.floatingblock.FloatingBlockEntityList;
+import net.id.aether.entities.util.floatingblock.FloatingBlockStructureManager;
+
+/**
+ * Per-world state that the Aether attaches to {@code ServerWorld} and {@code ClientWorld}.
+ * Cast a world to this interface to get at it.
+ */
+public interface AetherWorldExtensions {
+    FloatingBlockEntityList getFloatingBlockEntities();
+
+    FloatingBlockStructureManager getFloatingBlockStructures();
+
+    AerwhaleProbeCache getAerwhaleProbes();
+}
@@ -7,6 +7,7 @@ import net.id.aether.world.feature.config.DynamicConfiguration;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.StructureWorldAccess;
 import net.minecraft.world.gen.feature.Feature;
 import net.minecraft.world.gen.feature.util.FeatureContext;
@@ -74,39 +75,83 @@ public class AercloudFeature extends Feature<AercloudConfig> {
         return true;
     }
 
-    private boolean createCloudBlob(StructureWorldAccess world, BlockState state, Random random, BlockPos center, int sizex, int sizez, BlockPos origin) {
-        for (BlockPos blockPos : BlockPos.iterate(center.add(-sizex * 0.3, -sizex * 0.3, -sizez * 0.3), center.add(sizex * 0.3, sizex * 0.3, sizez * 0.3))) {
-            if (testElipsoid(sizex, sizex, sizez, blockPos, center) && (!(world.isAir(blockPos) || world.getBlockState(blockPos) == state.getBlock().getDefaultState()))) {
-                return false;
+    /**
+     * Places a chain of cloud segments, each one shifted from the last and one block shorter, until it either gets
+     * too short or runs into something that isn't air or this cloud.
+     *
+     * @return False if not even the first segment had room
+     */
+    private boolean createCloudBlob(StructureWorldAccess world, BlockState state, Random random, BlockPos start, int sizex, int sizez, BlockPos origin) {
+        BlockPos.Mutable mut = new BlockPos.Mutable();
+        int centerX = start.getX();
+        int centerY = start.getY();
+        int centerZ = start.getZ();
+
+        for (boolean first = true; ; first = false) {
+            if (!hasRoom(world, state, mut, centerX, centerY, centerZ, sizex, sizez)) {
+                return !first;
             }
-        }
-        if (sizex > 0 && sizez > 1) {
+            if (sizex <= 0 || sizez <= 1) {
+                return true;
+            }
+
             for (int z = -sizez; z <= sizez; z++) {
                 int stuffsize = Math.round(sizex * (1f / (Math.max(Math.abs(((float) z) / 7), 1))));
-                for (int x = center.getX() - stuffsize; x <= center.getX() + stuffsize; x++) {
-                    for (int y = center.getY() - Math.round(stuffsize * 0.7f); y <= center.getY() + Math.round(stuffsize * 0.7f); y++) {
-                        if (!((x == center.getX() - stuffsize || x == center.getX() + stuffsize) && (y == center.getY() - stuffsize + 1 || y == center.getY() + stuffsize - 1))) {
-                            if (world.getBlockState(new BlockPos(x, y, center.getZ() + z)).isOf(Blocks.AIR)) {
-                                if (origin.isWithinDistance(new BlockPos(x, y, center.getZ() + z), 16))
-                                    world.setBlockState(new BlockPos(x, y, center.getZ() + z), state, 2);
+                int stuffheight = Math.round(stuffsize * 0.7f);
+                for (int x = centerX - stuffsize; x <= centerX + stuffsize; x++) {
+                    boolean edgeX = x == centerX - stuffsize || x == centerX + stuffsize;
+                    for (int y = centerY - stuffheight; y <= centerY + stuffheight; y++) {
+                        if (!(edgeX && (y == centerY - stuffsize + 1 || y == centerY + stuffsize - 1))) {
+                            mut.set(x, y, centerZ + z);
+                            if (isWithinDistance(origin, mut, 16) && world.getBlockState(mut).isOf(Blocks.AIR)) {
+                                world.setBlockState(mut, state, 2);
                             }
                         }
                     }
                 }
             }
-            center = center.down((random.nextInt(1) + 1) * randomSign(random));
-            center = center.east((random.nextInt(3) + 3) * randomSign(random));
-            center = center.north((random.nextInt(3) + 3) * randomSign(random));
-            createCloudBlob(world, state, random, center, sizex - random.nextInt(1), sizez - random.nextInt(1) - 1, origin);
+
+            centerY -= (random.nextInt(1) + 1) * randomSign(random);
+            centerX += (random.nextInt(3) + 3) * randomSign(random);
+            centerZ -= (random.nextInt(3) + 3) * randomSign(random);
+            sizex -= random.nextInt(1);
+            sizez -= random.nextInt(1) + 1;
         }
+    }
 
+    /**
+     * Checks the core of the segment's ellipsoid, (x² + y²) / a² + z² / c² <= 1, using integers only.
+     */
+    private boolean hasRoom(StructureWorldAccess world, BlockState state, BlockPos.Mutable mut, int centerX, int centerY, int centerZ, int sizex, int sizez) {
+        int xyExtent = MathHelper.floor(sizex * 0.3);
+        int zExtent = MathHelper.floor(sizez * 0.3);
+        long a2 = (long) sizex * sizex;
+        long c2 = (long) sizez * sizez;
+        BlockState cloud = state.getBlock().getDefaultState();
+
+        // Matches the floored corners BlockPos.iterate used to be given
+        for (int x = MathHelper.floor(centerX - sizex * 0.3); x <= centerX + xyExtent; x++) {
+            for (int y = MathHelper.floor(centerY - sizex * 0.3); y <= centerY + xyExtent; y++) {
+                for (int z = MathHelper.floor(centerZ - sizez * 0.3); z <= centerZ + zExtent; z++) {
+                    long dx = x - centerX;
+                    long dy = y - centerY;
+                    long dz = z - centerZ;
+                    if ((dx * dx + dy * dy) * c2 + dz * dz * a2 <= a2 * c2) {
+                        BlockState found = world.getBlockState(mut.set(x, y, z));
+                        if (!(found.isAir() || found == cloud)) {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
         return true;
     }
 
-    private boolean testElipsoid(int a, int b, int c, BlockPos test, BlockPos center) {
-        int x = Math.abs(test.getX() - center.getX());
-        int y = Math.abs(test.getY() - center.getY());
-        int z = Math.abs(test.getZ() - center.getZ());
-        return Math.pow(x, 2) / Math.pow(a, 2) + Math.pow(y, 2) / Math.pow(b, 2) + Math.pow(z, 2) / Math.pow(c, 2) <= 1;
+    private static boolean isWithinDistance(BlockPos origin, BlockPos pos, int distance) {
+        int dx = pos.getX() - origin.getX();
+        int dy = pos.getY() - origin.getY();
+        int dz = pos.getZ() - origin.getZ();
+        return dx * dx + dy * dy + dz * dz < distance * distance;
     }
-}
\ No newline at end of file
+}
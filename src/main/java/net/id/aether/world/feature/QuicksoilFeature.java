@@ -2,6 +2,10 @@ package net.id.aether.world.feature;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.id.aether.blocks.AetherBlockProperties;
 import net.id.aether.blocks.AetherBlocks;
 import net.id.aether.blocks.natural.aercloud.AercloudBlock;
@@ -9,19 +13,19 @@ import net.id.aether.world.feature.config.DynamicConfiguration;
 import net.id.aether.world.feature.config.QuicksoilConfig;
 import net.minecraft.block.BlockState;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.util.math.Direction;
-import net.minecraft.world.ChunkRegion;
 import net.minecraft.world.StructureWorldAccess;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
 import net.minecraft.world.gen.feature.Feature;
 import net.minecraft.world.gen.feature.util.FeatureContext;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.List;
-
 public class QuicksoilFeature extends Feature<QuicksoilConfig> {
 
+    private static final Direction[] HORIZONTAL = new Direction[]{Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST};
+
     private static final Codec<QuicksoilConfig> CODEC = RecordCodecBuilder.create(instance -> instance.group(
             BlockState.CODEC.optionalFieldOf("state").forGetter(QuicksoilConfig::getOptionalState),
             Codec.STRING.optionalFieldOf("genType").forGetter(QuicksoilConfig::getGenString)
@@ -66,78 +70,62 @@ public class QuicksoilFeature extends Feature<QuicksoilConfig> {
     }
 
     private boolean createBlob(FeatureContext<QuicksoilConfig> context) {
-        BlockPos origin = null;
+        StructureWorldAccess world = context.getWorld();
         BlockPos.Mutable mut = new BlockPos.Mutable();
 
         BlockPos startPos = context.getOrigin();
 
-        for (int x = -16; x < 16; ++x) {
-            for (int y = 20; y < 128; y++) {
-                for (int z = -16; z < 16; ++z) {
-                    mut.set(startPos);
-                    mut.move(x, y, z);
-
-                    if (context.getWorld().getBlockState(mut).isAir() && context.getWorld().getBlockState(mut.up()).isOf(AetherBlocks.AETHER_GRASS_BLOCK) && context.getWorld().getBlockState(mut.up(2)).isAir()) {
-                        origin = new BlockPos(mut);
-                    }
-                }
-            }
-        }
-
+        BlockPos origin = findOrigin(world, startPos, mut);
         if (origin == null) return false;
 
         startPos = new BlockPos(startPos.getX(), origin.getY(), startPos.getZ());
 
-        Collection<BlockPos> centers = new HashSet<>();
-
-        Direction[] directions = new Direction[]{Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST};
-
-        Collection<BlockPos> visited = new HashSet<>();
-        Collection<BlockPos> nextStops = new HashSet<>();
-        nextStops.add(origin);
+        // Every position that can be reached from the origin in steps of 1-4 blocks and is under an overhang
+        LongArrayList centers = new LongArrayList();
+        LongOpenHashSet visited = new LongOpenHashSet();
+        LongArrayFIFOQueue nextStops = new LongArrayFIFOQueue();
+        visited.add(origin.asLong());
+        nextStops.enqueue(origin.asLong());
 
         while (!nextStops.isEmpty()) {
-            BlockPos stop = nextStops.iterator().next();
+            long stop = nextStops.dequeueLong();
+            int stopX = BlockPos.unpackLongX(stop);
+            int stopY = BlockPos.unpackLongY(stop);
+            int stopZ = BlockPos.unpackLongZ(stop);
 
             for (int i = 1; i < 5; ++i) {
-                for (Direction direction : directions) {
-                    mut.set(stop);
-                    mut.move(direction, i);
+                for (Direction direction : HORIZONTAL) {
+                    int x = stopX + direction.getOffsetX() * i;
+                    int z = stopZ + direction.getOffsetZ() * i;
+                    long key = BlockPos.asLong(x, stopY, z);
 
-                    if (!visited.contains(mut) && !centers.contains(mut)) {
+                    if (visited.add(key) && isWithinDistance(x - startPos.getX(), z - startPos.getZ(), 16)) {
                         BlockState up;
-                        if (context.getWorld().getBlockState(mut).isAir() && !(up = context.getWorld().getBlockState(mut.up())).isAir() && !(up.getBlock() instanceof AercloudBlock) && mut.isWithinDistance(startPos, 16)) {
-                            BlockPos p = new BlockPos(mut);
-                            nextStops.add(p);
-                            centers.add(p);
+                        if (world.getBlockState(mut.set(x, stopY, z)).isAir() && !(up = world.getBlockState(mut.move(Direction.UP))).isAir() && !(up.getBlock() instanceof AercloudBlock)) {
+                            nextStops.enqueue(key);
+                            centers.add(key);
                         }
                     }
-
-                    visited.add(new BlockPos(mut));
                 }
             }
-
-            nextStops.remove(stop);
-            visited.add(stop);
         }
-        mut.set(origin);
 
-        ChunkRegion region = (ChunkRegion) context.getWorld();
-
-        List<int[]> positions = new ArrayList<>();
+        LongArrayList positions = new LongArrayList();
 
         int radius;
         if (centers.size() > 10) {
-            for (BlockPos center : centers) {
+            for (int i = 0; i < centers.size(); i++) {
+                long center = centers.getLong(i);
+                int centerX = BlockPos.unpackLongX(center);
+                int centerY = BlockPos.unpackLongY(center);
+                int centerZ = BlockPos.unpackLongZ(center);
                 radius = context.getRandom().nextInt(2) + 4;
 
-                for (int x = center.getX() - radius; x < center.getX() + radius; x++) {
-                    for (int z = center.getZ() - radius; z < center.getZ() + radius; z++) {
-                        mut.set(x, center.getY(), z);
-
-                        if (region.isChunkLoaded(mut.getX() >> 4, mut.getZ() >> 4)) {
-                            if (context.getWorld().getBlockState(mut).isAir() && mut.isWithinDistance(center, radius)) {
-                                positions.add(new int[]{mut.getX(), mut.getY(), mut.getZ()});
+                for (int x = centerX - radius; x < centerX + radius; x++) {
+                    for (int z = centerZ - radius; z < centerZ + radius; z++) {
+                        if (world.isChunkLoaded(x >> 4, z >> 4)) {
+                            if (isWithinDistance(x - centerX, z - centerZ, radius) && world.getBlockState(mut.set(x, centerY, z)).isAir()) {
+                                positions.add(BlockPos.asLong(x, centerY, z));
                             }
                         } else {
                             return false;
@@ -147,12 +135,77 @@ public class QuicksoilFeature extends Feature<QuicksoilConfig> {
             }
         }
 
-        for (int[] pos : positions) {
-            mut.set(pos[0], pos[1], pos[2]);
-            if (startPos.isWithinDistance(mut, 16))
-                this.setBlockState(context.getWorld(), mut, context.getConfig().state);
+        for (int i = 0; i < positions.size(); i++) {
+            mut.set(positions.getLong(i));
+            if (isWithinDistance(mut.getX() - startPos.getX(), mut.getZ() - startPos.getZ(), 16))
+                this.setBlockState(world, mut, context.getConfig().state);
         }
 
         return true;
     }
-}
\ No newline at end of file
+
+    /**
+     * Finds the highest block of air with a lone aether grass block above it, in the 32x32 columns around the start
+     * and between 20 and 127 blocks above it. Ties go to the largest x, then the largest z.
+     * <br>
+     * Only chunk sections that contain aether grass at all are searched, which skips nearly all of the volume.
+     */
+    private static BlockPos findOrigin(StructureWorldAccess world, BlockPos startPos, BlockPos.Mutable mut) {
+        // The grass block sits one above the origin
+        int minGrassY = Math.max(startPos.getY() + 21, world.getBottomY());
+        int maxGrassY = Math.min(startPos.getY() + 128, world.getTopY() - 1);
+        if (minGrassY > maxGrassY) return null;
+
+        Long2ObjectOpenHashMap<boolean[]> grassSections = new Long2ObjectOpenHashMap<>();
+
+        for (int x = startPos.getX() + 15; x >= startPos.getX() - 16; --x) {
+            int bestY = Integer.MIN_VALUE;
+            int bestZ = 0;
+
+            for (int z = startPos.getZ() + 15; z >= startPos.getZ() - 16; --z) {
+                Chunk chunk = world.getChunk(x >> 4, z >> 4);
+                long chunkKey = ChunkPos.toLong(x >> 4, z >> 4);
+                boolean[] hasGrass = grassSections.get(chunkKey);
+                if (hasGrass == null) {
+                    hasGrass = findGrassSections(world, chunk);
+                    grassSections.put(chunkKey, hasGrass);
+                }
+
+                // Only a strictly higher block can beat the one found in a column with a larger z
+                for (int y = maxGrassY; y >= minGrassY && y > bestY + 1; --y) {
+                    int section = world.getSectionIndex(y);
+                    if (!hasGrass[section]) {
+                        y = ChunkSectionPos.getBlockCoord(world.sectionIndexToCoord(section));
+                        continue;
+                    }
+                    if (chunk.getBlockState(mut.set(x, y, z)).isOf(AetherBlocks.AETHER_GRASS_BLOCK)
+                            && chunk.getBlockState(mut.set(x, y - 1, z)).isAir()
+                            && chunk.getBlockState(mut.set(x, y + 1, z)).isAir()) {
+                        bestY = y - 1;
+                        bestZ = z;
+                        break;
+                    }
+                }
+            }
+
+            if (bestY != Integer.MIN_VALUE) {
+                return new BlockPos(x, bestY, bestZ);
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean[] findGrassSections(StructureWorldAccess world, Chunk chunk) {
+        ChunkSection[] sections = chunk.getSectionArray();
+        boolean[] hasGrass = new boolean[world.countVerticalSections()];
+        for (int i = 0; i < hasGrass.length && i < sections.length; i++) {
+            hasGrass[i] = !ChunkSection.isEmpty(sections[i]) && sections[i].hasAny(state -> state.isOf(AetherBlocks.AETHER_GRASS_BLOCK));
+        }
+        return hasGrass;
+    }
+
+    private static boolean isWithinDistance(int dx, int dz, int distance) {
+        return dx * dx + dz * dz < distance * distance;
+    }
+}
@@ -20,6 +20,9 @@ import java.util.Random;
 
 public abstract class AetherStructureGenerator extends StructurePiece {
 
+    private static final int SHELL_X = 1, SHELL_Y = 2, SHELL_Z = 4;
+    private static final long EMPTY_RANGE = Long.MIN_VALUE;
+
     public final BlockState airState = Blocks.AIR.getDefaultState();
     public int chance;
     public BlockState blockState, extraBlockState;
@@ -56,143 +59,162 @@ public abstract class AetherStructureGenerator extends StructurePiece {
     }
 
     public void addLineX(int x, int y, int z, int xRange) {
-        for (int lineX = x; lineX < x + xRange; lineX++) {
-            Block block = this.getBlockState(lineX + this.startX, y + this.startY, z + this.startZ).getBlock();
-
-            if ((this.replaceAir || block != Blocks.AIR) && (this.replaceSolid || block == Blocks.AIR))
-                this.setBlock(lineX + this.startX, y + this.startY, z + this.startZ);
-        }
+        this.fillBox(x, y, z, xRange, 1, 1, false, 0);
     }
 
     public void addLineY(int x, int y, int z, int yRange) {
-        for (int lineY = y; lineY < y + yRange; lineY++) {
-            Block block = this.getBlockState(x + this.startX, lineY + this.startY, z + this.startZ).getBlock();
-
-            if ((this.replaceAir || block != Blocks.AIR) && (this.replaceSolid || block == Blocks.AIR))
-                this.setBlock(x + this.startX, lineY + this.startY, z + this.startZ);
-        }
+        this.fillBox(x, y, z, 1, yRange, 1, false, 0);
     }
 
     public void addLineZ(int x, int y, int z, int zRange) {
-        for (int lineZ = z; lineZ < z + zRange; lineZ++) {
-            Block block = this.getBlockState(x + this.startX, y + this.startY, lineZ + this.startZ).getBlock();
-
-            if ((this.replaceAir || block != Blocks.AIR) && (this.replaceSolid || block == Blocks.AIR))
-                this.setBlock(x + this.startX, y + this.startY, lineZ + this.startZ);
-        }
+        this.fillBox(x, y, z, 1, 1, zRange, false, 0);
     }
 
     public void addPlaneX(int x, int y, int z, int yRange, int zRange) {
-        for (int lineY = y; lineY < y + yRange; lineY++) {
-            for (int lineZ = z; lineZ < z + zRange; lineZ++) {
-                Block block = this.getBlockState(x + this.startX, lineY + this.startY, lineZ + this.startZ).getBlock();
-
-                if ((this.replaceAir || block != Blocks.AIR) && (this.replaceSolid || block == Blocks.AIR))
-                    this.setBlock(x + this.startX, lineY + this.startY, lineZ + this.startZ);
-            }
-        }
+        this.fillBox(x, y, z, 1, yRange, zRange, false, 0);
     }
 
     public void addPlaneY(int x, int y, int z, int xRange, int zRange) {
-        for (int lineX = x; lineX < x + xRange; lineX++) {
-            for (int lineZ = z; lineZ < z + zRange; lineZ++) {
-                Block block = this.getBlockState(lineX + this.startX, y + this.startY, lineZ + this.startZ).getBlock();
-
-                if ((this.replaceAir || block != Blocks.AIR) && (this.replaceSolid || block == Blocks.AIR))
-                    this.setBlock(lineX + this.startX, y + this.startY, lineZ + this.startZ);
-            }
-        }
+        this.fillBox(x, y, z, xRange, 1, zRange, false, 0);
     }
 
     public void addPlaneZ(int x, int y, int z, int xRange, int yRange) {
-        for (int lineX = x; lineX < x + xRange; lineX++) {
-            for (int lineY = y; lineY < y + yRange; lineY++) {
-                Block block = this.getBlockState(lineX + this.startX, lineY + this.startY, z + this.startZ).getBlock();
-
-                if ((this.replaceAir || block != Blocks.AIR) && (this.replaceSolid || block == Blocks.AIR))
-                    this.setBlock(lineX + this.startX, lineY + this.startY, z + this.startZ);
-            }
-        }
+        this.fillBox(x, y, z, xRange, yRange, 1, false, 0);
     }
 
     public void addHollowBox(int x, int y, int z, int xRange, int yRange, int zRange) {
-        BlockState temp1 = this.blockState;
-        BlockState temp2 = this.extraBlockState;
-
-        this.setBlocks(this.airState, this.airState, this.chance);
-        this.addSolidBox(x, y, z, xRange, yRange, zRange);
-        this.setBlocks(temp1, temp2, this.chance);
-        this.addPlaneY(x, y, z, xRange, zRange);
-        this.addPlaneY(x, y + (yRange - 1), z, xRange, zRange);
-        this.addPlaneX(x, y, z, yRange, zRange);
-        this.addPlaneX(x + (xRange - 1), y, z, yRange, zRange);
-        this.addPlaneZ(x, y, z, xRange, yRange);
-        this.addPlaneZ(x, y, z + (zRange - 1), xRange, yRange);
+        this.fillBox(x, y, z, xRange, yRange, zRange, true, SHELL_X | SHELL_Y | SHELL_Z);
     }
 
     public void addSquareTube(int x, int y, int z, int xRange, int yRange, int zRange, int angel) {
-        BlockState temp1 = this.blockState;
-        BlockState temp2 = this.extraBlockState;
-
-        this.setBlocks(this.airState, this.airState, this.chance);
-        this.addSolidBox(x, y, z, xRange, yRange, zRange);
-        this.setBlocks(temp1, temp2, this.chance);
-
-        if (angel == 0 || angel == 2) {
-            this.addPlaneY(x, y, z, xRange, zRange);
-            this.addPlaneY(x, y + (yRange - 1), z, xRange, zRange);
-        }
-        if (angel == 1 || angel == 2) {
-            this.addPlaneX(x, y, z, yRange, zRange);
-            this.addPlaneX(x + (xRange - 1), y, z, yRange, zRange);
-        }
-        if (angel == 0 || angel == 1) {
-            this.addPlaneZ(x, y, z, xRange, yRange);
-            this.addPlaneZ(x, y, z + (zRange - 1), xRange, yRange);
-        }
+        int shellAxes = switch (angel) {
+            case 0 -> SHELL_Y | SHELL_Z;
+            case 1 -> SHELL_X | SHELL_Z;
+            case 2 -> SHELL_X | SHELL_Y;
+            default -> 0;
+        };
+        this.fillBox(x, y, z, xRange, yRange, zRange, true, shellAxes);
     }
 
     public void addSolidBox(int x, int y, int z, int xRange, int yRange, int zRange) {
-        for (int lineX = x; lineX < x + xRange; lineX++) {
-            for (int lineY = y; lineY < y + yRange; lineY++) {
-                for (int lineZ = z; lineZ < z + zRange; lineZ++) {
-                    Block block = this.getBlockState(lineX + this.startX, lineY + this.startY, lineZ + this.startZ).getBlock();
-
-                    if ((this.replaceAir || block != Blocks.AIR) && (this.replaceSolid || block == Blocks.AIR))
-                        this.setBlock(lineX + this.startX, lineY + this.startY, lineZ + this.startZ);
-                }
-            }
-        }
+        this.fillBox(x, y, z, xRange, yRange, zRange, false, 0);
     }
 
     public boolean isBoxSolid(int x, int y, int z, int xRange, int yRange, int zRange) {
-        boolean flag = true;
+        if (xRange <= 0 || yRange <= 0 || zRange <= 0) return true;
+
+        BlockBox box = this.clip(x, y, z, xRange, yRange, zRange);
+
+        // Anything outside the chunk being generated reads as air
+        if (box == null || box.getBlockCountX() != xRange || box.getBlockCountY() != yRange || box.getBlockCountZ() != zRange)
+            return false;
 
-        for (int lineX = x; lineX < x + xRange; lineX++) {
-            for (int lineY = y; lineY < y + yRange; lineY++) {
-                for (int lineZ = z; lineZ < z + zRange; lineZ++) {
-                    if (this.getBlockState(lineX + this.startX, lineY + this.startY, lineZ + this.startZ).getBlock() == Blocks.AIR)
-                        flag = false;
+        for (int lineX = box.getMinX(); lineX <= box.getMaxX(); lineX++) {
+            for (int lineY = box.getMinY(); lineY <= box.getMaxY(); lineY++) {
+                for (int lineZ = box.getMinZ(); lineZ <= box.getMaxZ(); lineZ++) {
+                    if (this.getBlockState(lineX, lineY, lineZ).getBlock() == Blocks.AIR)
+                        return false;
                 }
             }
         }
 
-        return flag;
+        return true;
     }
 
     public boolean isBoxEmpty(int x, int y, int z, int xRange, int yRange, int zRange) {
-        boolean flag = true;
+        BlockBox box = this.clip(x, y, z, xRange, yRange, zRange);
+        if (box == null) return true;
+
+        for (int lineX = box.getMinX(); lineX <= box.getMaxX(); lineX++) {
+            for (int lineY = box.getMinY(); lineY <= box.getMaxY(); lineY++) {
+                for (int lineZ = box.getMinZ(); lineZ <= box.getMaxZ(); lineZ++) {
+                    if (this.getBlockState(lineX, lineY, lineZ).getBlock() != Blocks.AIR)
+                        return false;
+                }
+            }
+        }
+
+        return true;
+    }
 
-        for (int lineX = x; lineX < x + xRange; lineX++) {
-            for (int lineY = y; lineY < y + yRange; lineY++) {
-                for (int lineZ = z; lineZ < z + zRange; lineZ++) {
-                    if (this.getBlockState(lineX + this.startX, lineY + this.startY, lineZ + this.startZ).getBlock() != Blocks.AIR)
-                        flag = false;
+    /**
+     * Places a box in one pass over the part of it that lies in the chunk being generated.
+     * <br>
+     * Hollow boxes clear their inside to air and only put blocks on the faces picked by {@code shellAxes}.
+     * This gives the same result as filling the box with air and drawing the faces over it.
+     */
+    private void fillBox(int x, int y, int z, int xRange, int yRange, int zRange, boolean hollow, int shellAxes) {
+        BlockBox box = this.clip(x, y, z, xRange, yRange, zRange);
+        if (box == null) return;
+
+        int minX = x + this.startX, maxX = minX + xRange - 1;
+        int minY = y + this.startY, maxY = minY + yRange - 1;
+        int minZ = z + this.startZ, maxZ = minZ + zRange - 1;
+
+        for (int lineX = box.getMinX(); lineX <= box.getMaxX(); lineX++) {
+            boolean shellX = (shellAxes & SHELL_X) != 0 && (lineX == minX || lineX == maxX);
+            for (int lineY = box.getMinY(); lineY <= box.getMaxY(); lineY++) {
+                boolean shellY = (shellAxes & SHELL_Y) != 0 && (lineY == minY || lineY == maxY);
+                for (int lineZ = box.getMinZ(); lineZ <= box.getMaxZ(); lineZ++) {
+                    Block block = this.getBlockState(lineX, lineY, lineZ).getBlock();
+
+                    if ((this.replaceAir || block != Blocks.AIR) && (this.replaceSolid || block == Blocks.AIR)) {
+                        boolean shell = shellX || shellY || (shellAxes & SHELL_Z) != 0 && (lineZ == minZ || lineZ == maxZ);
+                        // A face over freshly cleared air only goes down if air may be replaced
+                        if (!hollow || shell && this.replaceAir)
+                            this.setBlock(lineX, lineY, lineZ);
+                        else
+                            this.setBlock(lineX, lineY, lineZ, this.airState);
+                    }
                 }
             }
         }
+    }
+
+    /**
+     * Clips a box, given relative to the structure offset, to the chunk being generated.
+     *
+     * @return The part of the box inside the chunk in structure coordinates, or null if there is none
+     */
+    private BlockBox clip(int x, int y, int z, int xRange, int yRange, int zRange) {
+        if (xRange <= 0 || yRange <= 0 || zRange <= 0) return null;
+
+        int minX = x + this.startX;
+        int minY = y + this.startY;
+        int minZ = z + this.startZ;
+        int maxX = minX + xRange - 1;
+        int maxY = minY + yRange - 1;
+        int maxZ = minZ + zRange - 1;
+
+        // Each structure axis maps onto a single world axis, going one way or the other depending on the facing
+        BlockBox bounds = this.structureBoundingBox;
+        int baseX = this.applyXTransform(0, 0);
+        int baseZ = this.applyZTransform(0, 0);
+        int stepXOnX = this.applyXTransform(1, 0) - baseX;
+        int stepZOnX = this.applyXTransform(0, 1) - baseX;
+        int stepXOnZ = this.applyZTransform(1, 0) - baseZ;
+        int stepZOnZ = this.applyZTransform(0, 1) - baseZ;
+
+        long clippedX = stepXOnX != 0 ? clipAxis(minX, maxX, baseX, stepXOnX, bounds.getMinX(), bounds.getMaxX())
+                : clipAxis(minX, maxX, baseZ, stepXOnZ, bounds.getMinZ(), bounds.getMaxZ());
+        long clippedZ = stepZOnZ != 0 ? clipAxis(minZ, maxZ, baseZ, stepZOnZ, bounds.getMinZ(), bounds.getMaxZ())
+                : clipAxis(minZ, maxZ, baseX, stepZOnX, bounds.getMinX(), bounds.getMaxX());
+        long clippedY = clipAxis(minY, maxY, this.applyYTransform(0), 1, bounds.getMinY(), bounds.getMaxY());
+
+        if (clippedX == EMPTY_RANGE || clippedY == EMPTY_RANGE || clippedZ == EMPTY_RANGE) return null;
+
+        return new BlockBox((int) (clippedX >> 32), (int) (clippedY >> 32), (int) (clippedZ >> 32), (int) clippedX, (int) clippedY, (int) clippedZ);
+    }
 
-        return flag;
+    /**
+     * @return The part of [min, max] that {@code base + step * value} maps into [boundsMin, boundsMax], packed as two ints
+     */
+    private static long clipAxis(int min, int max, int base, int step, int boundsMin, int boundsMax) {
+        int from = step > 0 ? boundsMin - base : base - boundsMax;
+        int to = step > 0 ? boundsMax - base : base - boundsMin;
+        from = Math.max(from, min);
+        to = Math.min(to, max);
+        return from > to ? EMPTY_RANGE : (long) from << 32 | to & 0xFFFFFFFFL;
     }
 
     public BlockEntity getTileEntityFromPosWithOffset(int x, int y, int z) {
@@ -16,6 +16,7 @@ import net.minecraft.world.gen.chunk.AquiferSampler;
 import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Random;
 import java.util.function.Function;
@@ -27,8 +28,13 @@ public class CloudCarver extends Carver<CloudCarverConfig> {
         this.alwaysCarvableBlocks = ImmutableSet.of(Blocks.AIR, Blocks.VOID_AIR, Blocks.CAVE_AIR);
     }
 
+    private static final double EXCLUSION_RADIUS = 0.85D;
+
+    // The carver is shared by every worldgen thread
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
     private static boolean isPositionExcluded(double scaledRelativeX, double scaledRelativeY, double scaledRelativeZ) {
-        return scaledRelativeX * scaledRelativeX + scaledRelativeY * scaledRelativeY + scaledRelativeZ * scaledRelativeZ >= 0.85D;
+        return scaledRelativeX * scaledRelativeX + scaledRelativeY * scaledRelativeY + scaledRelativeZ * scaledRelativeZ >= EXCLUSION_RADIUS;
     }
 
     @Override
@@ -85,8 +91,8 @@ public class CloudCarver extends Carver<CloudCarverConfig> {
                 // Reduce the branch count by 0% to 25%
                 int maxBranches = size - random.nextInt(size / 4);
 
-                // Start the recursive tunnel carving
-                this.carveTunnels(context, config, chunk, posToBiome, carvingMask, random.nextLong(), sampler, mainChunkX, mainChunkZ, x, y, z, width, yaw, pitch, yawToPitchRatio, 0, maxBranches, ((context1, scaledRelativeX, scaledRelativeY, scaledRelativeZ, y1) -> isPositionExcluded(scaledRelativeX, scaledRelativeY, scaledRelativeZ)));
+                // Start the tunnel carving
+                this.carveTunnels(context, config, chunk, posToBiome, carvingMask, random.nextLong(), sampler, mainChunkX, mainChunkZ, x, y, z, width, yaw, pitch, yawToPitchRatio, maxBranches);
                 //carveRegion(context, config, chunk, posToBiome, random.nextLong(), seaLevel, x, y, z, 2, 0.5, carvingMask, ((context1, scaledRelativeX, scaledRelativeY, scaledRelativeZ, y1) -> false));
             }
         }
@@ -104,10 +110,24 @@ public class CloudCarver extends Carver<CloudCarverConfig> {
     //    this.carveRegion(chunk, config, random, seaLevel, mainChunkX, mainChunkZ, x + 1.0, y, z, scaledYaw, scaledPitch);
     //}
 
-    protected void carveTunnels(CarverContext context, CloudCarverConfig config, Chunk chunk, Function<BlockPos, Biome> posToBiome, BitSet carvingMask, long seed, AquiferSampler sampler, int mainChunkX, int mainChunkZ, double x, double y, double z, float width, float yaw, float pitch, float yawToPitchRatio, int branchStartIndex, int branchCount, SkipPredicate skipPredicate) {
+    protected void carveTunnels(CarverContext context, CloudCarverConfig config, Chunk chunk, Function<BlockPos, Biome> posToBiome, BitSet carvingMask, long seed, AquiferSampler sampler, int mainChunkX, int mainChunkZ, double x, double y, double z, float width, float yaw, float pitch, float yawToPitchRatio, int branchCount) {
+        Scratch scratch = SCRATCH.get();
+        TunnelStack tunnels = scratch.tunnels;
+        tunnels.clear();
+        tunnels.push(seed, x, y, z, width, yaw, pitch, 0);
+
+        // A tunnel either runs to the end or splits into two and stops, so its forks are queued instead of recursed into
+        while (!tunnels.isEmpty()) {
+            tunnels.pop();
+            this.carveTunnel(context, config, chunk, posToBiome, carvingMask, scratch, sampler, tunnels.x, tunnels.y, tunnels.z, tunnels.width, tunnels.yaw, tunnels.pitch, yawToPitchRatio, tunnels.branchStartIndex, branchCount, tunnels.seed);
+        }
+    }
+
+    private void carveTunnel(CarverContext context, CloudCarverConfig config, Chunk chunk, Function<BlockPos, Biome> posToBiome, BitSet carvingMask, Scratch scratch, AquiferSampler sampler, double x, double y, double z, float width, float yaw, float pitch, float yawToPitchRatio, int branchStartIndex, int branchCount, long seed) {
         // Get the position for starting the next branch, from 25% of the total length to 75% to ensure it doesn't branch near the ends
 
-        Random random = new Random(seed);
+        Random random = scratch.tunnelRandom;
+        random.setSeed(seed);
 
         int nextBranch = random.nextInt(branchCount / 2) + branchCount / 4;
 
@@ -149,24 +169,32 @@ public class CloudCarver extends Carver<CloudCarverConfig> {
             if (i == nextBranch && width > 1.0F && random.nextBoolean()) {
                 // Change the yaw by pi/2 with different sign for both tunnels, to split them off at a fork and make them go opposite ways.
                 // Reduce the pitch by a factor of 3 to flatten out cave tunnel forks.
-                this.carveTunnels(context, config, chunk, posToBiome, carvingMask, random.nextLong(), sampler, mainChunkX, mainChunkZ, x, y, z, width * (random.nextFloat() / 4 + 0.75F), yaw - (random.nextFloat() / 3), pitch / 3, yawToPitchRatio, i, branchCount, skipPredicate);
-                this.carveTunnels(context, config, chunk, posToBiome, carvingMask, random.nextLong(), sampler, mainChunkX, mainChunkZ, x, y, z, width * (random.nextFloat() / 4 + 0.75F), yaw + (random.nextFloat() / 3), pitch / 3, yawToPitchRatio, i, branchCount, skipPredicate);
+                long firstSeed = random.nextLong();
+                float firstWidth = width * (random.nextFloat() / 4 + 0.75F);
+                float firstYaw = yaw - (random.nextFloat() / 3);
+                long secondSeed = random.nextLong();
+                float secondWidth = width * (random.nextFloat() / 4 + 0.75F);
+                float secondYaw = yaw + (random.nextFloat() / 3);
+                // Pushed in reverse so the first fork is carved first
+                scratch.tunnels.push(secondSeed, x, y, z, secondWidth, secondYaw, pitch / 3, i);
+                scratch.tunnels.push(firstSeed, x, y, z, firstWidth, firstYaw, pitch / 3, i);
                 return;
             }
 
             // 25% of generation is skipped for a more random feeling
             if (random.nextInt(4) != 0) {
                 // Carve the region at this position
-                carveRegion(context, config, chunk, posToBiome, random.nextLong(), sampler, x, y, z, scaledYaw, scaledPitch, carvingMask, skipPredicate);
+                carveRegion(context, config, chunk, posToBiome, random.nextLong(), sampler, x, y, z, scaledYaw, scaledPitch, carvingMask, scratch);
             }
         }
     }
 
-    protected boolean carveRegion(CarverContext context, CloudCarverConfig config, Chunk chunk, Function<BlockPos, Biome> posToBiome, long seed, AquiferSampler sampler, double x, double y, double z, double horizontalScale, double verticalScale, BitSet carvingMask, Carver.SkipPredicate skipPredicate) {
+    private boolean carveRegion(CarverContext context, CloudCarverConfig config, Chunk chunk, Function<BlockPos, Biome> posToBiome, long seed, AquiferSampler sampler, double x, double y, double z, double horizontalScale, double verticalScale, BitSet carvingMask, Scratch scratch) {
         ChunkPos chunkPos = chunk.getPos();
         int i = chunkPos.x;
         int j = chunkPos.z;
-        Random random = new Random(seed + (long) i + (long) j);
+        Random random = scratch.regionRandom;
+        random.setSeed(seed + (long) i + (long) j);
         double d = chunkPos.getCenterX();
         double e = chunkPos.getCenterZ();
         double f = 16.0D + horizontalScale * 2.0D;
@@ -183,8 +211,9 @@ public class CloudCarver extends Carver<CloudCarverConfig> {
                 return false;
             } else {
                 boolean bl = false;
-                BlockPos.Mutable mutable = new BlockPos.Mutable();
-                BlockPos.Mutable mutable2 = new BlockPos.Mutable();
+                BlockPos.Mutable mutable = scratch.pos;
+                BlockPos.Mutable mutable2 = scratch.downPos;
+                MutableBoolean mutableBoolean = scratch.foundSurface;
 
                 for (int s = m; s <= n; ++s) {
                     int t = chunkPos.getOffsetX(s);
@@ -193,12 +222,22 @@ public class CloudCarver extends Carver<CloudCarverConfig> {
                     for (int u = q; u <= r; ++u) {
                         int v = chunkPos.getOffsetZ(u);
                         double h = ((double) v + 0.5D - z) / horizontalScale;
-                        if (!(g * g + h * h >= 1.0D)) {
-                            MutableBoolean mutableBoolean = new MutableBoolean(false);
+                        double horizontal = g * g + h * h;
+                        // Columns that are excluded from top to bottom never get looked at
+                        if (!(horizontal >= 1.0D) && horizontal < EXCLUSION_RADIUS) {
+                            // Only the run of the column inside the ellipsoid can be carved; widen it by a block
+                            // to be safe from rounding, the exact test below still decides every block
+                            double halfRun = verticalScale * Math.sqrt(EXCLUSION_RADIUS - horizontal);
+                            int top = Math.min(p, MathHelper.ceil(y + 0.5D + halfRun) + 1);
+                            int bottom = Math.max(o, MathHelper.floor(y + 0.5D - halfRun) - 1);
+                            if (top <= bottom) {
+                                continue;
+                            }
 
-                            for (int w = p; w > o; --w) {
+                            mutableBoolean.setFalse();
+                            for (int w = top; w > bottom; --w) {
                                 double aa = ((double) w - 0.5D - y) / verticalScale;
-                                if (!skipPredicate.shouldSkip(context, g, aa, h, w)) {
+                                if (!isPositionExcluded(g, aa, h)) {
                                     int ab = w - context.getMinY();
                                     int ac = s | u << 4 | ab << 8;
                                     if (!carvingMask.get(ac)) {
@@ -261,4 +300,67 @@ public class CloudCarver extends Carver<CloudCarverConfig> {
     protected boolean canCarveBlock(BlockState state, BlockState stateAbove) {
         return state.isAir();
     }
+
+    private static final class Scratch {
+        private final Random tunnelRandom = new Random();
+        private final Random regionRandom = new Random();
+        private final BlockPos.Mutable pos = new BlockPos.Mutable();
+        private final BlockPos.Mutable downPos = new BlockPos.Mutable();
+        private final MutableBoolean foundSurface = new MutableBoolean();
+        private final TunnelStack tunnels = new TunnelStack();
+    }
+
+    /**
+     * The tunnels still waiting to be carved, as parallel arrays. {@link #pop()} loads the top one into the fields.
+     */
+    private static final class TunnelStack {
+        private long[] seeds = new long[8];
+        private double[] positions = new double[8 * 3];
+        private float[] angles = new float[8 * 3];
+        private int[] branchStartIndices = new int[8];
+        private int size;
+
+        private long seed;
+        private double x, y, z;
+        private float width, yaw, pitch;
+        private int branchStartIndex;
+
+        private void clear() {
+            size = 0;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private void push(long seed, double x, double y, double z, float width, float yaw, float pitch, int branchStartIndex) {
+            if (size == seeds.length) {
+                seeds = Arrays.copyOf(seeds, size * 2);
+                positions = Arrays.copyOf(positions, size * 2 * 3);
+                angles = Arrays.copyOf(angles, size * 2 * 3);
+                branchStartIndices = Arrays.copyOf(branchStartIndices, size * 2);
+            }
+            seeds[size] = seed;
+            positions[size * 3] = x;
+            positions[size * 3 + 1] = y;
+            positions[size * 3 + 2] = z;
+            angles[size * 3] = width;
+            angles[size * 3 + 1] = yaw;
+            angles[size * 3 + 2] = pitch;
+            branchStartIndices[size] = branchStartIndex;
+            size++;
+        }
+
+        private void pop() {
+            size--;
+            seed = seeds[size];
+            x = positions[size * 3];
+            y = positions[size * 3 + 1];
+            z = positions[size * 3 + 2];
+            width = angles[size * 3];
+            yaw = angles[size * 3 + 1];
+            pitch = angles[size * 3 + 2];
+            branchStartIndex = branchStartIndices[size];
+        }
+    }
 }
@@ -0,0 +1,46 @@
+package net.id.aether.world.map;
+
+/**
+ * What the map sampler found in each column of a chunk: the height it settled on,
+ * how deep the fluid there is and the map color id it picked.
+ * <br>
+ * Columns are sampled lazily and forgotten again as soon as a block in them changes,
+ * so a map only walks down the columns that changed since they were last sampled.
+ * It still visits every pixel in its update window, reading the rest from here.
+ */
+public class MapColumnSummaries {
+    private static final long PRESENT = 1L << 63;
+
+    private final long[] columns = new long[16 * 16];
+
+    public static long pack(int height, int fluidDepth, int colorId) {
+        return PRESENT | (long) (colorId & 0xFF) << 48 | (long) (fluidDepth & 0xFFFF) << 32 | height & 0xFFFFFFFFL;
+    }
+
+    public static int getHeight(long summary) {
+        return (int) summary;
+    }
+
+    public static int getFluidDepth(long summary) {
+        return (int) (summary >>> 32) & 0xFFFF;
+    }
+
+    public static int getColorId(long summary) {
+        return (int) (summary >>> 48) & 0xFF;
+    }
+
+    /**
+     * @return The summary of the column, or 0 if it has to be sampled again
+     */
+    public long get(int localX, int localZ) {
+        return columns[localZ << 4 | localX];
+    }
+
+    public void set(int localX, int localZ, long summary) {
+        columns[localZ << 4 | localX] = summary;
+    }
+
+    public void invalidate(int localX, int localZ) {
+        columns[localZ << 4 | localX] = 0;
+    }
+}
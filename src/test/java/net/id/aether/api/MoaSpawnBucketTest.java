@@ -0,0 +1,105 @@
+package net.id.aether.api;
+
+import net.id.aether.entities.passive.moa.MoaAttributes;
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A {@link MoaAPI.SpawnBucket} has to pick every race in proportion to its weight,
+ * however many races it holds and in whatever order they were put in.
+ * <br>
+ * Draws use fixed seeds, so a failure here is a real change in the distribution, not bad luck.
+ */
+class MoaSpawnBucketTest {
+    private static final int DRAWS = 1_000_000;
+    /**
+     * The chi-square value with 5 degrees of freedom that a correct sampler exceeds one time in a thousand.
+     */
+    private static final double CHI_SQUARE_CRITICAL = 20.515;
+
+    private static MoaAPI.MoaRace[] races;
+
+    @BeforeAll
+    static void bootstrap() {
+        // MoaAPI needs the particle registry to build its fallback race
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+
+        // Distinct affinities keep the races from being equal records
+        MoaAttributes[] attributes = MoaAttributes.values();
+        races = new MoaAPI.MoaRace[attributes.length];
+        for (int i = 0; i < attributes.length; i++) {
+            races[i] = new MoaAPI.MoaRace(attributes[i], MoaAPI.SpawnStatWeighting.SPEED, false, false, null);
+        }
+    }
+
+    @Test
+    void singleRaceIsAlwaysPicked() {
+        MoaAPI.SpawnBucket bucket = new MoaAPI.SpawnBucket();
+        bucket.put(races[0], 7);
+        Random random = new Random(1);
+        for (int i = 0; i < 1000; i++) {
+            assertSame(races[0], bucket.get(random));
+        }
+    }
+
+    @Test
+    void uniformWeights() {
+        assertMatchesWeights(new int[]{5, 5, 5, 5, 5, 5}, 2);
+    }
+
+    @Test
+    void skewedWeights() {
+        // Roughly the spread of a biome with one common race and a few rare ones
+        assertMatchesWeights(new int[]{100, 40, 12, 5, 2, 1}, 3);
+    }
+
+    @Test
+    void skewedWeightsPutRarestFirst() {
+        assertMatchesWeights(new int[]{1, 2, 5, 12, 40, 100}, 4);
+    }
+
+    private static void assertMatchesWeights(int[] weights, long seed) {
+        MoaAPI.SpawnBucket bucket = new MoaAPI.SpawnBucket();
+        int totalWeight = 0;
+        for (int i = 0; i < weights.length; i++) {
+            bucket.put(races[i], weights[i]);
+            totalWeight += weights[i];
+        }
+
+        int[] counts = new int[weights.length];
+        Random random = new Random(seed);
+        for (int i = 0; i < DRAWS; i++) {
+            MoaAPI.MoaRace race = bucket.get(random);
+            int index = indexOf(race);
+            assertTrue(index >= 0 && index < weights.length, () -> race + " was never put in the bucket");
+            counts[index]++;
+        }
+
+        double chiSquare = 0;
+        for (int i = 0; i < weights.length; i++) {
+            double expected = (double) DRAWS * weights[i] / totalWeight;
+            double difference = counts[i] - expected;
+            chiSquare += difference * difference / expected;
+        }
+        double result = chiSquare;
+        assertTrue(result < CHI_SQUARE_CRITICAL, () -> "Chi-square of " + result + " for weights " + Arrays.toString(weights) + ", counts " + Arrays.toString(counts));
+    }
+
+    private static int indexOf(MoaAPI.MoaRace race) {
+        for (int i = 0; i < races.length; i++) {
+            if (races[i] == race) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
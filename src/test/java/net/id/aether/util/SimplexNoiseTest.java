@@ -0,0 +1,65 @@
+package net.id.aether.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The batch sampler has to return exactly what the scalar one does, point for point.
+ * <br>
+ * Samples are compared with {@code ==}, so {@code -0.0f} and {@code 0.0f} count as the same.
+ */
+class SimplexNoiseTest {
+    private static final int PADDING = 3;
+
+    @Test
+    void batchMatchesScalarOnRandomGrids() {
+        Random random = new Random(1);
+        for (int trial = 0; trial < 2000; trial++) {
+            float originX = (random.nextFloat() - 0.5F) * 4000;
+            float originY = (random.nextFloat() - 0.5F) * 500;
+            float originZ = (random.nextFloat() - 0.5F) * 4000;
+            // Every third grid uses the step worldgen samples at
+            float step = trial % 3 == 0 ? 1 / 31F : random.nextFloat() * 2;
+            int sizeX = 1 + random.nextInt(20);
+            int sizeY = 1 + random.nextInt(5);
+            int sizeZ = 1 + random.nextInt(5);
+            assertGridMatches(originX, originY, originZ, step, step * 0.5F, step, sizeX, sizeY, sizeZ);
+        }
+    }
+
+    /**
+     * On half-integer lattices the skewed coordinates land exactly on cell boundaries,
+     * which is where picking the simplex corners is easiest to get subtly wrong.
+     */
+    @Test
+    void batchMatchesScalarOnLatticeTies() {
+        assertGridMatches(-10, -10, -10, 0.5F, 0.5F, 0.5F, 40, 40, 40);
+        for (int x = -20; x < 20; x++) {
+            for (int y = -20; y < 20; y++) {
+                for (int z = -20; z < 20; z++) {
+                    assertGridMatches(x * 0.5F, y * 0.5F, z * 0.5F, 1, 1, 1, 1, 1, 1);
+                }
+            }
+        }
+    }
+
+    private static void assertGridMatches(float originX, float originY, float originZ, float stepX, float stepY, float stepZ, int sizeX, int sizeY, int sizeZ) {
+        float[] out = new float[PADDING + sizeX * sizeY * sizeZ];
+        SimplexNoise.noise(out, PADDING, originX, originY, originZ, stepX, stepY, stepZ, sizeX, sizeY, sizeZ);
+        for (int y = 0; y < sizeY; y++) {
+            for (int z = 0; z < sizeZ; z++) {
+                for (int x = 0; x < sizeX; x++) {
+                    float xin = originX + x * stepX;
+                    float yin = originY + y * stepY;
+                    float zin = originZ + z * stepZ;
+                    float expected = SimplexNoise.noise(xin, yin, zin);
+                    float actual = out[PADDING + (y * sizeZ + z) * sizeX + x];
+                    assertTrue(expected == actual, () -> "noise(" + xin + ", " + yin + ", " + zin + ") is " + expected + " but the batch sampled " + actual);
+                }
+            }
+        }
+    }
+}